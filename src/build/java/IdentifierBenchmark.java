@@ -0,0 +1,123 @@
+/*
+ * Copyright 2026 Philipp Salvisberg <philipp.salvisberg@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import ch.islandsql.grammar.IslandSqlDialect;
+import ch.islandsql.grammar.IslandSqlDocument;
+import ch.islandsql.grammar.IslandSqlLexer;
+import ch.islandsql.grammar.IslandSqlParser;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.dfa.DFA;
+
+import java.util.Arrays;
+
+/**
+ * Measures the parsing of identifier-heavy DDL, where most identifiers are keywords
+ * matched by the rule keywordAsId. Prints the size of the parser ATN, the parse time
+ * with an empty DFA cache (cold) and with a filled DFA cache (warm), the number of syntax errors
+ * and the size of the DFA cache afterwards.
+ * Uses the public API only, so the same program runs against grammar variants for comparison.
+ * Launched as single-file source program, it is not part of the artifact.
+ * Usage: java -cp classpath IdentifierBenchmark.java [iterations [statements]]
+ * or: mvn -Pbenchmark process-classes -Dbenchmark=IdentifierBenchmark -DbenchmarkArgs="iterations statements"
+ */
+public class IdentifierBenchmark {
+    private static final int WARMUP_ITERATIONS = 3;
+
+    /**
+     * Runs the benchmark and prints the results.
+     *
+     * @param args Number of measured iterations, number of generated statements.
+     */
+    public static void main(String[] args) {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 5;
+        int statements = args.length > 1 ? Integer.parseInt(args[1]) : 2000;
+        String sql = generateScript(statements);
+        IslandSqlParser parser = new IslandSqlParser(new CommonTokenStream(new IslandSqlLexer(CharStreams.fromString(""))));
+        System.out.printf("[INFO] %d characters, %d warmup and %d measured iterations%n",
+                sql.length(), WARMUP_ITERATIONS, iterations);
+        System.out.printf("[INFO] parser ATN: %d rules, %d states, %d decisions%n", parser.getRuleNames().length,
+                parser.getATN().states.size(), parser.getATN().getNumberOfDecisions());
+        long[] coldTimes = new long[iterations];
+        long[] warmTimes = new long[iterations];
+        int errors = 0;
+        for (int i = -WARMUP_ITERATIONS; i < iterations; i++) {
+            parser.getInterpreter().clearDFA();
+            long startTime = System.nanoTime();
+            errors = parse(sql);
+            long coldTime = System.nanoTime() - startTime;
+            startTime = System.nanoTime();
+            parse(sql);
+            long warmTime = System.nanoTime() - startTime;
+            if (i >= 0) {
+                coldTimes[i] = coldTime;
+                warmTimes[i] = warmTime;
+            }
+        }
+        Arrays.sort(coldTimes);
+        Arrays.sort(warmTimes);
+        System.out.printf("[INFO] cold DFA: %d syntax errors, best %8.1f ms, median %8.1f ms%n", errors,
+                coldTimes[0] / 1e6, coldTimes[iterations / 2] / 1e6);
+        System.out.printf("[INFO] warm DFA: %d syntax errors, best %8.1f ms, median %8.1f ms%n", errors,
+                warmTimes[0] / 1e6, warmTimes[iterations / 2] / 1e6);
+        int states = 0;
+        for (DFA dfa : parser.getInterpreter().decisionToDFA) {
+            states += dfa.states.size();
+        }
+        System.out.printf("[INFO] parser DFA cache: %d states%n", states);
+    }
+
+    /**
+     * Parses a script with the generic dialect, using the shared DFA cache of all parsers.
+     *
+     * @param sql The script to be parsed.
+     * @return The number of syntax errors.
+     */
+    private static int parse(String sql) {
+        IslandSqlDocument doc = new IslandSqlDocument.Builder()
+                .sql(sql)
+                .dialect(IslandSqlDialect.GENERIC)
+                .build();
+        return doc.getSyntaxErrors().size();
+    }
+
+    /**
+     * Generates DDL and PL/SQL declarations with many identifiers. Most of them are
+     * non-reserved keywords, e.g. name, type, value, level or comment.
+     *
+     * @param statements The number of statements.
+     * @return The script.
+     */
+    private static String generateScript(int statements) {
+        String[] templates = {
+                "create table t%d (id number, name varchar2(100), type varchar2(30), value number, level number, "
+                        + "status char(1), data clob, key varchar2(50), position number, source varchar2(30), "
+                        + "owner varchar2(128), version number, created date, result varchar2(4000));",
+                "create index t%d_i on t (name, type, value, level, status, position, owner, version);",
+                "create view v%d (id, name, type, value, level, status) as "
+                        + "select id, name, type, value, level, status from t where owner = user;",
+                "alter table t%d add (description varchar2(4000), language varchar2(10), timezone varchar2(64), "
+                        + "priority number, sequence number, signature raw(32));",
+                "declare name varchar2(100); type varchar2(30); value number; level number; status char(1); "
+                        + "position number := %d; begin name := 'x'; value := position; end;"
+        };
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < statements; i++) {
+            sb.append(String.format(templates[i % templates.length], i)).append('\n');
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2026 Philipp Salvisberg <philipp.salvisberg@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import ch.islandsql.grammar.IslandSqlDialect;
+import ch.islandsql.grammar.IslandSqlLexer;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.dfa.DFA;
+import org.antlr.v4.runtime.dfa.DFAState;
+
+import java.util.Arrays;
+
+/**
+ * Measures the keyword recognition of the main lexer on keyword-heavy code.
+ * Prints the size of the lexer ATN, the lexing time with an empty DFA cache (cold)
+ * and with a filled DFA cache (warm), and the size of the DFA cache afterwards.
+ * Uses the lexer class only, so the same program runs against older versions for comparison.
+ * Launched as single-file source program, it is not part of the artifact.
+ * Usage: java -cp classpath KeywordBenchmark.java [iterations [statements]]
+ * or: mvn -Pbenchmark process-classes -Dbenchmark=KeywordBenchmark -DbenchmarkArgs="iterations statements"
+ */
+public class KeywordBenchmark {
+    private static final int WARMUP_ITERATIONS = 5;
+
+    /**
+     * Runs the benchmark and prints the results.
+     *
+     * @param args Number of measured iterations, number of generated statements.
+     */
+    public static void main(String[] args) {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 10;
+        int statements = args.length > 1 ? Integer.parseInt(args[1]) : 20000;
+        String sql = generateScript(statements);
+        IslandSqlLexer lexer = new IslandSqlLexer(CharStreams.fromString(sql));
+        System.out.printf("[INFO] %d characters, %d warmup and %d measured iterations%n",
+                sql.length(), WARMUP_ITERATIONS, iterations);
+        System.out.printf("[INFO] lexer ATN: %d rules, %d states, %d token types%n", lexer.getRuleNames().length,
+                lexer.getATN().states.size(), lexer.getVocabulary().getMaxTokenType());
+        long[] coldTimes = new long[iterations];
+        long[] warmTimes = new long[iterations];
+        int tokens = 0;
+        for (int i = -WARMUP_ITERATIONS; i < iterations; i++) {
+            lexer.getInterpreter().clearDFA();
+            long startTime = System.nanoTime();
+            tokens = lex(sql);
+            long coldTime = System.nanoTime() - startTime;
+            startTime = System.nanoTime();
+            lex(sql);
+            long warmTime = System.nanoTime() - startTime;
+            if (i >= 0) {
+                coldTimes[i] = coldTime;
+                warmTimes[i] = warmTime;
+            }
+        }
+        Arrays.sort(coldTimes);
+        Arrays.sort(warmTimes);
+        System.out.printf("[INFO] cold DFA: %d tokens, best %8.1f ms, median %8.1f ms, %6.1f MB/s%n", tokens,
+                coldTimes[0] / 1e6, coldTimes[iterations / 2] / 1e6, sql.length() * 1e3 / coldTimes[0]);
+        System.out.printf("[INFO] warm DFA: %d tokens, best %8.1f ms, median %8.1f ms, %6.1f MB/s%n", tokens,
+                warmTimes[0] / 1e6, warmTimes[iterations / 2] / 1e6, sql.length() * 1e3 / warmTimes[0]);
+        int states = 0;
+        int edges = 0;
+        for (DFA dfa : lexer.getInterpreter().decisionToDFA) {
+            states += dfa.states.size();
+            for (DFAState state : dfa.states.keySet()) {
+                edges += state.edges != null ? state.edges.length : 0;
+            }
+        }
+        System.out.printf("[INFO] lexer DFA cache: %d states, %d edge slots%n", states, edges);
+    }
+
+    /**
+     * Lexes a script with a new lexer sharing the DFA cache of all lexers.
+     *
+     * @param sql The script to be lexed.
+     * @return The number of tokens including hidden tokens and EOF.
+     */
+    private static int lex(String sql) {
+        IslandSqlLexer lexer = new IslandSqlLexer(CharStreams.fromString(sql));
+        lexer.setDialect(IslandSqlDialect.GENERIC);
+        lexer.removeErrorListeners();
+        int count = 1;
+        while (lexer.nextToken().getType() != Token.EOF) {
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Generates DDL and DML statements with many keywords and identifiers in mixed case.
+     *
+     * @param statements The number of statements.
+     * @return The script.
+     */
+    private static String generateScript(int statements) {
+        String[] templates = {
+                "CREATE TABLE t%d (id NUMBER GENERATED ALWAYS AS IDENTITY PRIMARY KEY, name VARCHAR2(100) NOT NULL, "
+                        + "created_at TIMESTAMP WITH TIME ZONE DEFAULT SYSTIMESTAMP, status CHAR(1) CHECK (status IN ('A', 'I')));",
+                "alter table t%d add constraint t_fk foreign key (parent_id) references parent (id) on delete cascade enable novalidate;",
+                "Select Distinct a.Id, b.Name, Count(*) Over (Partition By a.Grp Order By a.Ts Rows Between Unbounded Preceding And Current Row) Cnt "
+                        + "From T%d a Left Outer Join U b On b.Id = a.Id Where a.Status Is Not Null Group By a.Id, b.Name Having Count(*) > 1;",
+                "insert into log%d (level, message, logged_at) select 'INFO', text, current_timestamp from messages where exists (select 1 from dual);",
+                "merge into tgt%d t using src s on (t.key = s.key) when matched then update set t.value = s.value "
+                        + "when not matched then insert (key, value) values (s.key, s.value);",
+                "grant select, insert, update, delete on schema%d.orders to app_role with grant option;",
+                "declare l_cursor sys_refcursor; l_row employees%%rowtype; begin open l_cursor for select * from employees where rownum <= %d; "
+                        + "loop fetch l_cursor into l_row; exit when l_cursor%%notfound; end loop; close l_cursor; exception when others then raise; end;"
+        };
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < statements; i++) {
+            sb.append(String.format(templates[i % templates.length], i)).append('\n');
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2026 Philipp Salvisberg <philipp.salvisberg@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import ch.islandsql.grammar.IslandSqlDialect;
+import ch.islandsql.grammar.IslandSqlLexer;
+import ch.islandsql.grammar.IslandSqlScopeLexer;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.Token;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.function.Function;
+
+/**
+ * Measures the throughput and the allocations of the lexers on large scripts.
+ * The scripts exercise the semantic predicates of the lexers, e.g. statement starts,
+ * SQL*Plus commands, slash terminators, quoted and dollar-quoted strings and inquiry directives.
+ * Uses the lexer classes only, so the same program runs against older versions for comparison.
+ * Launched as single-file source program, it is not part of the artifact.
+ * Usage: java -cp classpath LexerBenchmark.java [iterations [file ...]]
+ * or: mvn -Pbenchmark process-classes -Dbenchmark=LexerBenchmark -DbenchmarkArgs="iterations file ..."
+ */
+public class LexerBenchmark {
+    private static final int WARMUP_ITERATIONS = 5;
+
+    /**
+     * Runs the benchmark and prints the results.
+     *
+     * @param args Number of measured iterations, the files to be lexed. Generates a script of about 8 MB when no file is passed.
+     * @throws IOException when reading a file fails.
+     */
+    public static void main(String[] args) throws IOException {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 10;
+        String sql;
+        if (args.length > 1) {
+            StringBuilder sb = new StringBuilder();
+            for (int i = 1; i < args.length; i++) {
+                sb.append(new String(Files.readAllBytes(Paths.get(args[i])), StandardCharsets.UTF_8)).append('\n');
+            }
+            sql = sb.toString();
+        } else {
+            sql = generateScript(8 * 1024 * 1024);
+        }
+        System.out.printf("[INFO] %d characters, %d warmup and %d measured iterations%n",
+                sql.length(), WARMUP_ITERATIONS, iterations);
+        run("scope lexer", sql, iterations, IslandSqlScopeLexer::new);
+        run("lexer ORACLEDB", sql, iterations, input -> createLexer(input, IslandSqlDialect.ORACLEDB));
+        run("lexer POSTGRESQL", sql, iterations, input -> createLexer(input, IslandSqlDialect.POSTGRESQL));
+    }
+
+    /**
+     * Creates the main lexer for a dialect.
+     *
+     * @param input   The input to be lexed.
+     * @param dialect The dialect.
+     * @return The lexer.
+     */
+    private static Lexer createLexer(CharStream input, IslandSqlDialect dialect) {
+        IslandSqlLexer lexer = new IslandSqlLexer(input);
+        lexer.setDialect(dialect);
+        return lexer;
+    }
+
+    /**
+     * Lexes a script repeatedly and prints the best and the median time,
+     * the throughput and the allocated bytes per character of the best run.
+     *
+     * @param name       The name of the lexer in the output.
+     * @param sql        The script to be lexed.
+     * @param iterations The number of measured iterations.
+     * @param factory    Creates the lexer for an input.
+     */
+    private static void run(String name, String sql, int iterations, Function<CharStream, Lexer> factory) {
+        long[] times = new long[iterations];
+        long bestAllocated = Long.MAX_VALUE;
+        int tokens = 0;
+        for (int i = -WARMUP_ITERATIONS; i < iterations; i++) {
+            CharStream input = CharStreams.fromString(sql);
+            long startAllocated = allocatedBytes();
+            long startTime = System.nanoTime();
+            tokens = lex(factory.apply(input));
+            long time = System.nanoTime() - startTime;
+            long allocated = allocatedBytes() - startAllocated;
+            if (i >= 0) {
+                times[i] = time;
+                bestAllocated = Math.min(bestAllocated, allocated);
+            }
+        }
+        Arrays.sort(times);
+        double best = times[0] / 1e6;
+        double median = times[iterations / 2] / 1e6;
+        System.out.printf("[INFO] %-18s %9d tokens, best %8.1f ms, median %8.1f ms, %7.1f MB/s, %6.1f bytes allocated per character%n",
+                name, tokens, best, median, sql.length() / 1e3 / best, bestAllocated < 0 ? Double.NaN : (double) bestAllocated / sql.length());
+    }
+
+    /**
+     * Fetches all tokens of a lexer.
+     *
+     * @param lexer The lexer.
+     * @return The number of tokens including hidden tokens and EOF.
+     */
+    private static int lex(Lexer lexer) {
+        lexer.removeErrorListeners();
+        int count = 1;
+        while (lexer.nextToken().getType() != Token.EOF) {
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Gets the bytes allocated by the current thread, if supported by the JVM.
+     *
+     * @return The allocated bytes so far, -1 if not supported.
+     */
+    private static long allocatedBytes() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) bean).getCurrentThreadAllocatedBytes();
+        }
+        return -1;
+    }
+
+    /**
+     * Generates a script with a mix of SQL, PL/SQL, PostgreSQL and SQL*Plus code.
+     *
+     * @param size The minimum number of characters.
+     * @return The script.
+     */
+    private static String generateScript(int size) {
+        StringBuilder sb = new StringBuilder(size + 1024);
+        for (int i = 0; sb.length() < size; i++) {
+            sb.append("-- statement group ").append(i).append('\n');
+            sb.append("set define off\n");
+            sb.append("prompt creating view v").append(i).append('\n');
+            sb.append("create or replace view v").append(i).append(" as\n")
+                    .append("   select e.empno, e.ename, q'[it's ]' || e.job as job, d.dname /* dept */\n")
+                    .append("     from emp e join dept d on d.deptno = e.deptno\n")
+                    .append("    where e.sal > ").append(i).append(" and e.hiredate < date '2020-01-01';\n");
+            sb.append("create or replace package body pkg").append(i).append(" is\n")
+                    .append("   procedure p(in_value in varchar2) is\n")
+                    .append("      l_text varchar2(100) := q'{text with 'quotes'}';\n")
+                    .append("   begin\n")
+                    .append("      $if dbms_db_version.ver_le_12 $then\n")
+                    .append("         dbms_output.put_line($$plsql_unit || ':' || $$plsql_line);\n")
+                    .append("      $end\n")
+                    .append("      update t set c = in_value where id = ").append(i).append(";\n")
+                    .append("   end p;\n")
+                    .append("end pkg").append(i).append(";\n")
+                    .append("/\n");
+            sb.append("create function f").append(i).append("(a integer) returns integer as $body$\n")
+                    .append("begin\n")
+                    .append("   return a + ").append(i).append("; -- $$ is not the end\n")
+                    .append("end;\n")
+                    .append("$body$ language plpgsql;\n");
+            sb.append("do $$ begin perform f").append(i).append("(1); end $$;\n");
+            sb.append("select \"Quoted Id\", 'literal', 1.5e3, :bind from dual;\n");
+            sb.append("rem end of group ").append(i).append('\n');
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2026 Philipp Salvisberg <philipp.salvisberg@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Reports methods with a bytecode size above the HotSpot HugeMethodLimit (8000 bytes).
+ * The JIT compilers do not compile such methods, they are always interpreted.
+ * Launched as single-file source program during the build, it is not part of the artifact.
+ * Usage: java MethodSizeCheck.java classesDirectory classNamePrefix limit failOnHugeMethods
+ */
+public class MethodSizeCheck {
+    private final String name;
+    private final String method;
+    private final int size;
+
+    /**
+     * Constructor.
+     *
+     * @param name   The name of the class.
+     * @param method The name and descriptor of the method.
+     * @param size   The bytecode size of the method.
+     */
+    private MethodSizeCheck(String name, String method, int size) {
+        this.name = name;
+        this.method = method;
+        this.size = size;
+    }
+
+    /**
+     * Checks the class files and prints the oversized methods.
+     *
+     * @param args Directory of class files, class name prefix, limit, true to fail on oversized methods.
+     * @throws IOException when reading a class file fails.
+     */
+    public static void main(String[] args) throws IOException {
+        Path dir = Paths.get(args[0]);
+        String prefix = args.length > 1 ? args[1] : "";
+        int limit = args.length > 2 ? Integer.parseInt(args[2]) : 8000;
+        boolean fail = args.length > 3 && Boolean.parseBoolean(args[3]);
+        List<Path> files;
+        try (Stream<Path> stream = Files.walk(dir)) {
+            files = stream.filter(f -> f.getFileName().toString().startsWith(prefix)
+                    && f.getFileName().toString().endsWith(".class")).sorted().collect(Collectors.toList());
+        }
+        List<MethodSizeCheck> hugeMethods = new ArrayList<>();
+        for (Path file : files) {
+            for (MethodSizeCheck m : readMethods(file)) {
+                if (m.size > limit) {
+                    hugeMethods.add(m);
+                }
+            }
+        }
+        for (MethodSizeCheck m : hugeMethods) {
+            System.out.println("[WARNING] " + m.name + "." + m.method + " has " + m.size
+                    + " bytes of bytecode, exceeds " + limit + " bytes and is not JIT-compiled.");
+        }
+        System.out.println("[INFO] " + files.size() + " classes checked, " + hugeMethods.size()
+                + " methods exceed " + limit + " bytes.");
+        if (fail && !hugeMethods.isEmpty()) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Reads the bytecode size of all methods in a class file.
+     *
+     * @param file The class file.
+     * @return The methods with their sizes, abstract and native methods are not included.
+     * @throws IOException when reading the class file fails.
+     */
+    private static List<MethodSizeCheck> readMethods(Path file) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(Files.readAllBytes(file)));
+        in.skipBytes(8); // magic, minor and major version
+        int count = in.readUnsignedShort();
+        String[] utf8 = new String[count];
+        int[] classNames = new int[count];
+        for (int i = 1; i < count; i++) {
+            int tag = in.readUnsignedByte();
+            switch (tag) {
+                case 1: // Utf8
+                    utf8[i] = in.readUTF();
+                    break;
+                case 7: // Class
+                    classNames[i] = in.readUnsignedShort();
+                    break;
+                case 8: // String
+                case 16: // MethodType
+                case 19: // Module
+                case 20: // Package
+                    in.skipBytes(2);
+                    break;
+                case 15: // MethodHandle
+                    in.skipBytes(3);
+                    break;
+                case 3: // Integer
+                case 4: // Float
+                case 9: // Fieldref
+                case 10: // Methodref
+                case 11: // InterfaceMethodref
+                case 12: // NameAndType
+                case 17: // Dynamic
+                case 18: // InvokeDynamic
+                    in.skipBytes(4);
+                    break;
+                case 5: // Long
+                case 6: // Double
+                    in.skipBytes(8);
+                    i++;
+                    break;
+                default:
+                    throw new IOException("Unknown constant pool tag " + tag + " in " + file);
+            }
+        }
+        in.skipBytes(2); // access flags
+        String name = utf8[classNames[in.readUnsignedShort()]].replace('/', '.');
+        in.skipBytes(2); // super class
+        in.skipBytes(2 * in.readUnsignedShort()); // interfaces
+        int fieldCount = in.readUnsignedShort();
+        for (int i = 0; i < fieldCount; i++) {
+            in.skipBytes(6);
+            skipAttributes(in);
+        }
+        List<MethodSizeCheck> methods = new ArrayList<>();
+        int methodCount = in.readUnsignedShort();
+        for (int i = 0; i < methodCount; i++) {
+            in.skipBytes(2); // access flags
+            String method = utf8[in.readUnsignedShort()] + utf8[in.readUnsignedShort()];
+            int attributeCount = in.readUnsignedShort();
+            for (int j = 0; j < attributeCount; j++) {
+                String attribute = utf8[in.readUnsignedShort()];
+                int length = in.readInt();
+                if ("Code".equals(attribute)) {
+                    in.skipBytes(4); // max stack, max locals
+                    methods.add(new MethodSizeCheck(name, method, in.readInt()));
+                    in.skipBytes(length - 8);
+                } else {
+                    in.skipBytes(length);
+                }
+            }
+        }
+        return methods;
+    }
+
+    /**
+     * Skips the attributes of a field.
+     *
+     * @param in The class file stream positioned at the attribute count.
+     * @throws IOException when reading the class file fails.
+     */
+    private static void skipAttributes(DataInputStream in) throws IOException {
+        int attributeCount = in.readUnsignedShort();
+        for (int i = 0; i < attributeCount; i++) {
+            in.skipBytes(2);
+            in.skipBytes(in.readInt());
+        }
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2026 Philipp Salvisberg <philipp.salvisberg@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import ch.islandsql.grammar.IslandSqlDialect;
+import ch.islandsql.grammar.IslandSqlDocument;
+import org.antlr.v4.runtime.tree.ParseTree;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+
+/**
+ * Measures the parsing of expressions with long operator chains, with and without
+ * flattening of operator chains, see {@link IslandSqlDocument.Builder#flattenOperatorChains(boolean)}.
+ * Parses a select statement with 10, 1000 and 100000 operands for the operators
+ * <code>+</code>, <code>||</code> and <code>and</code>. Prints the best and median time
+ * and the depth of the parse tree.
+ * Launched as single-file source program, it is not part of the artifact.
+ * Usage: java -Xss512m -cp classpath OperatorChainBenchmark.java [iterations]
+ * or: mvn -Pbenchmark process-classes -Dbenchmark=OperatorChainBenchmark -DbenchmarkArgs="iterations"
+ */
+public class OperatorChainBenchmark {
+    private static final int WARMUP_ITERATIONS = 3;
+    private static final long STACK_SIZE = 512L * 1024 * 1024;
+
+    /**
+     * Runs the benchmark and prints the results.
+     *
+     * @param args Number of measured iterations for the chains with 100000 operands,
+     *             shorter chains are parsed more often.
+     */
+    public static void main(String[] args) {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 3;
+        for (String operator : new String[]{"+", "||", "and"}) {
+            for (int operands : new int[]{10, 1000, 100000}) {
+                String sql = generateStatement(operator, operands);
+                int scaledIterations = iterations * Math.max(1, 10000 / operands);
+                for (boolean flatten : new boolean[]{false, true}) {
+                    run(operator, operands, sql, scaledIterations, flatten);
+                }
+            }
+        }
+    }
+
+    /**
+     * Parses a statement repeatedly and prints the best and the median time and the depth of the parse tree.
+     *
+     * @param operator   The operator in the output.
+     * @param operands   The number of operands in the output.
+     * @param sql        The statement to be parsed.
+     * @param iterations The number of measured iterations.
+     * @param flatten    Flatten operator chains?
+     */
+    private static void run(String operator, int operands, String sql, int iterations, boolean flatten) {
+        long[] times = new long[iterations];
+        IslandSqlDocument doc = null;
+        for (int i = -WARMUP_ITERATIONS; i < iterations; i++) {
+            long startTime = System.nanoTime();
+            doc = new IslandSqlDocument.Builder()
+                    .sql(sql)
+                    .dialect(IslandSqlDialect.GENERIC)
+                    .stackSize(STACK_SIZE)
+                    .flattenOperatorChains(flatten)
+                    .build();
+            long time = System.nanoTime() - startTime;
+            if (i >= 0) {
+                times[i] = time;
+            }
+        }
+        Arrays.sort(times);
+        System.out.printf("[INFO] %-3s %6d operands, flatten %-5s: best %9.2f ms, median %9.2f ms, depth %6d, %d syntax errors%n",
+                operator, operands, flatten, times[0] / 1e6, times[iterations / 2] / 1e6, depth(doc.getFile()),
+                doc.getSyntaxErrors().size());
+    }
+
+    /**
+     * Determines the depth of a parse tree without recursion.
+     *
+     * @param root The root of the parse tree.
+     * @return The number of nodes on the longest path from the root to a leaf.
+     */
+    private static int depth(ParseTree root) {
+        int max = 0;
+        Deque<ParseTree> nodes = new ArrayDeque<>();
+        Deque<Integer> depths = new ArrayDeque<>();
+        nodes.push(root);
+        depths.push(1);
+        while (!nodes.isEmpty()) {
+            ParseTree node = nodes.pop();
+            int depth = depths.pop();
+            max = Math.max(max, depth);
+            for (int i = 0; i < node.getChildCount(); i++) {
+                nodes.push(node.getChild(i));
+                depths.push(depth + 1);
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Generates a select statement with an operator chain.
+     *
+     * @param operator The operator.
+     * @param operands The number of operands.
+     * @return The statement.
+     */
+    private static String generateStatement(String operator, int operands) {
+        StringBuilder sb = new StringBuilder("select ");
+        for (int i = 0; i < operands; i++) {
+            if (i > 0) {
+                sb.append(' ').append(operator).append(' ');
+            }
+            sb.append('c').append(i);
+            if ("and".equals(operator)) {
+                sb.append(" = ").append(i);
+            }
+        }
+        sb.append(" from t;");
+        return sb.toString();
+    }
+}
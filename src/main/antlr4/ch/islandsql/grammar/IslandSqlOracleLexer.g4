@@ -0,0 +1,34 @@
+/*
+ * Copyright 2026 Philipp Salvisberg <philipp.salvisberg@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+lexer grammar IslandSqlOracleLexer;
+
+options {
+    superClass=IslandSqlLexer;
+    tokenVocab=IslandSqlLexer;
+    caseInsensitive = true;
+}
+
+// Lexer for the dialect ORACLEDB. Extends IslandSqlLexer and uses the same token types.
+// Only comments and hints differ, they cannot be nested.
+import IslandSqlLexerCore;
+
+/*----------------------------------------------------------------------------*/
+// Comments and hints (not nested)
+/*----------------------------------------------------------------------------*/
+
+ML_HINT: '/*+' (~'*'|'*' ~'/')*? '*'+ '/' -> channel(HIDDEN);
+ML_COMMENT: '/' '*'+? (~'*'|'*' ~'/')*? '*'+? '/' -> channel(HIDDEN);
@@ -0,0 +1,33 @@
+/*
+ * Copyright 2026 Philipp Salvisberg <philipp.salvisberg@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+lexer grammar IslandSqlOracleScopeLexer;
+
+options {
+    superClass=IslandSqlScopeLexer;
+    tokenVocab=IslandSqlScopeLexer;
+    caseInsensitive = true;
+}
+
+// Scope lexer for the dialect ORACLEDB. Extends IslandSqlScopeLexer and uses the same token types.
+// Only comments differ, they cannot be nested.
+import IslandSqlScopeLexerCore;
+
+/*----------------------------------------------------------------------------*/
+// Comments (not nested)
+/*----------------------------------------------------------------------------*/
+
+ML_COMMENT: '/' '*'+? (~'*'|'*' ~'/')*? '*'+? '/' -> channel(HIDDEN);
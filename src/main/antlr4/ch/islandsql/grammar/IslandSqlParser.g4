@@ -22,6 +22,12 @@ options {
     contextSuperClass=IslandSqlParserRuleContext;
 }
 
+// Not produced by the lexer, see TokenStreamUtil.compactLiteralLists and IslandSqlDocument.Builder.subprogramThreads
+tokens {
+    LITERAL_LIST,
+    SUBPROGRAM
+}
+
 /*----------------------------------------------------------------------------*/
 // Start rules
 /*----------------------------------------------------------------------------*/
@@ -59,7 +65,9 @@ postgresqlCompilerOption:
 // Statement
 /*----------------------------------------------------------------------------*/
 
-statement:
+statement
+    @after {completeStatement();}
+    :
       ddlStatement
     | dmlStatement
     | doStatement
@@ -3035,6 +3043,7 @@ itemlistItem:
     | selectionDirective
     | postgresqlCursorDefinition
     | itemDeclaration
+    | SUBPROGRAM // function or procedure definition parsed in advance, replaced by the parse tree of the definition
 ;
 
 typeDefinition:
@@ -4389,11 +4398,13 @@ dataTypeArrayDim:
 expression:
       expr=string                                               # simpleExpressionStringLiteral
     | expr=NUMBER                                               # simpleExpressionNumberLiteral
+    | literals=LITERAL_LIST                                     # literalListExpression         // compacted list of literals
     | K_DATE expr=string                                        # dateLiteral
     | K_TIMESTAMP expr=string                                   # timestampLiteral
     | expr=intervalExpression                                   # intervalExpressionParent
     | LPAR expr=subquery RPAR                                   # scalarSubqueryExpression
-    | LPAR (exprs+=expression (COMMA exprs+=expression)*)? RPAR # expressionList                // also parenthesisCondition, empty list is undocumented
+    | LPAR RPAR                                                 # expressionList                // empty list is undocumented
+    | LPAR exprs+=expression (COMMA exprs+=expression)* RPAR    # expressionList                // also parenthesisCondition
     | LPAR expr=expression K_AS
         (schema=sqlName PERIOD)? typeName=sqlName RPAR          # typeCastExpression            // undocumented in 23.3, see example 14-22
     | K_CURSOR LPAR expr=subquery RPAR                          # cursorExpression
@@ -4403,8 +4414,7 @@ expression:
     | operator=unaryOperator expr=expression                    # unaryExpression               // precedence 0, must be evaluated before functions
     | expr=specialFunctionExpression                            # specialFunctionExpressionParent
     | expr=functionExpression                                   # functionExpressionParent
-    | expr=expression LPAR dims+=expression RPAR
-        (LPAR dims+=expression RPAR)*                           # plsqlMultiDimensionalExpression
+    | expr=expression dimensions=plsqlDimensions                # plsqlMultiDimensionalExpression
     | expr=plsqlQualifiedExpression                             # plsqlQualifiedExpressionParent
     | expr=placeholderExpression                                # placeholderExpressionParent
     | expr=AST                                                  # allColumnWildcardExpression
@@ -4416,16 +4426,7 @@ expression:
     | expr=expression postgresqlSubscript                       # postgresqlSubscriptParent     // precedence 3, PostgreSQL subscripts are handeld as model_expression
     | expr=postgresqlArrayConstructor                           # postgresqlArrayConstructorParent // precedence 3
     | left=expression operator=K_COLLATE right=sqlName          # collateExpression             // precedence 5
-    | left=expression operator=K_AT
-        (
-              K_LOCAL
-            | K_TIME K_ZONE
-                (
-                     K_DBTIMEZONE
-                   | K_SESSIONTIMEZONE
-                   | right=expression
-                )
-        )                                                       # datetimeExpression            // precedence 6
+    | left=expression operator=K_AT timeZone=datetimeTimeZone   # datetimeExpression            // precedence 6
     | left=expression
         (
               operator=HAT      // PostgreSQL
@@ -4464,53 +4465,100 @@ expression:
     | operator=K_NOT cond=expression                            # notCondition
     | left=expression operator=K_AND right=expression           # logicalCondition
     | left=expression operator=K_OR right=expression            # logicalCondition
-    | expr=expression
-        operator=K_IS K_NOT? (K_NAN|K_INFINITE)                 # floatingPointCondition
-    | expr=expression operator=K_IS K_ANY                       # isAnyCondition            // "any" only is handled as sqlName
-    | expr=expression operator=K_IS K_PRESENT                   # isPresentCondition
-    | expr=expression operator=K_IS K_NOT? K_A K_SET            # isASetCondition
-    | expr=expression operator=K_IS K_NOT? K_EMPTY              # isEmptyCondition
-    | expr=expression operator=K_IS K_NOT? K_NULL               # isNullCondition
-    | expr=expression operator=(K_NOTNULL|K_ISNULL)             # postgresqlNullCondition   // PostgreSQL
-    | expr=expression operator=K_IS K_NOT? K_TRUE               # isTrueCondition
-    | expr=expression operator=K_IS K_NOT? K_FALSE              # isFalseCondition
-    | expr=expression operator=K_IS K_NOT? K_DANGLING           # isDanglingCondition
-    | expr=expression operator=K_IS K_NOT? K_UNKNOWN            # isUnknownCondition        // PostgreSQL
-    | expr=expression operator=K_IS K_NOT? K_DOCUMENT           # isDocumentCondition       // PostgreSQL
-    | expr=expression
-        operator=K_IS K_NOT? K_JSON
-        jsonModifierList?
-        options+=jsonConditionOption*
-        (LPAR (options+=jsonConditionOption+) RPAR)?            # isJsonCondition
-    | left=expression operator=K_IS K_NOT?
-        K_DISTINCT K_FROM right=expression                      # isDistinctFromCondition   // PostgreSQL
-    | left=expression K_NOT? operator=K_MEMBER
-        K_OF? right=expression                                  # memberCondition
-    | left=expression K_NOT? operator=K_SUBMULTISET
-        K_OF? right=expression                                  # submultisetCondition
+    | expr=expression isCondition                               # isConditionParent
+    | left=expression
+        operator=isDistinctFromOperator right=expression        # isDistinctFromCondition   // PostgreSQL
+    | left=expression
+        operator=memberOperator right=expression                # memberCondition
+    | left=expression
+        operator=submultisetOperator right=expression           # submultisetCondition
     | left=expression K_NOT?
         operator=(K_LIKE|K_LIKEC|K_LIKE2|K_LIKE4|K_ILIKE)                                   // PostgreSQL: ilike (case-insensitive)
-        right=expression
-        (K_ESCAPE escChar=expression)?                          # likeCondition
+        pattern=likePattern                                     # likeCondition
     | left=expression K_NOT?
         operator=K_SIMILAR K_TO
-        right=expression
-        (K_ESCAPE escChar=expression)?                          # similarCondition          // PostgreSQL
+        pattern=likePattern                                     # similarCondition          // PostgreSQL
     | expr1=expression K_NOT? operator=K_BETWEEN K_SYMMETRIC?
         expr2=expression K_AND expr3=expression                 # betweenCondition          // PostgreSQL: symmetric
     | K_EXISTS LPAR subquery RPAR                               # existsCondition
     | left=expression K_NOT? operator=K_IN
         right=expression                                        # inCondition
     | expr=expression K_IS K_NOT? K_OF K_TYPE?
-        LPAR types+=isOfTypeConditionItem
-        (COMMA types+=isOfTypeConditionItem)* RPAR              # isOfTypeCondition
+        typeList=isOfTypeConditionTypes                         # isOfTypeCondition
     | left=expression
-        K_IS K_NOT? K_SOURCE K_OF right=expression              # sourcePredicate
+        operator=sourcePredicateOperator right=expression       # sourcePredicate
     | left=expression
-        K_IS K_NOT? K_DESTINATION K_OF right=expression         # destinationPredicate
+        operator=destinationPredicateOperator right=expression  # destinationPredicate
     | left=expression K_OVERLAPS right=expression               # overlapsExpression
-    | left=expression K_IS K_NOT?
-        form=sqlName? operator=K_NORMALIZED                     # normalizedExpression
+    | left=expression normalForm=normalizedForm                 # normalizedExpression
+;
+
+// the following rules are separate to keep the generated expression method below the JIT huge method limit
+
+datetimeTimeZone:
+      K_LOCAL
+    | K_TIME K_ZONE
+        (
+             K_DBTIMEZONE
+           | K_SESSIONTIMEZONE
+           | right=expression
+        )
+;
+
+plsqlDimensions:
+    LPAR dims+=expression RPAR (LPAR dims+=expression RPAR)*
+;
+
+likePattern:
+    right=expression (K_ESCAPE escChar=expression)?
+;
+
+isOfTypeConditionTypes:
+    LPAR types+=isOfTypeConditionItem (COMMA types+=isOfTypeConditionItem)* RPAR
+;
+
+normalizedForm:
+    K_IS K_NOT? form=sqlName? operator=K_NORMALIZED
+;
+
+isDistinctFromOperator:
+    K_IS K_NOT? K_DISTINCT K_FROM
+;
+
+memberOperator:
+    K_NOT? K_MEMBER K_OF?
+;
+
+submultisetOperator:
+    K_NOT? K_SUBMULTISET K_OF?
+;
+
+sourcePredicateOperator:
+    K_IS K_NOT? K_SOURCE K_OF
+;
+
+destinationPredicateOperator:
+    K_IS K_NOT? K_DESTINATION K_OF
+;
+
+// conditions with the same precedence in expression, no binary operator has a precedence in between
+isCondition:
+      operator=K_IS K_NOT? (K_NAN|K_INFINITE)                 # floatingPointCondition
+    | operator=K_IS K_ANY                                     # isAnyCondition            // "any" only is handled as sqlName
+    | operator=K_IS K_PRESENT                                 # isPresentCondition
+    | operator=K_IS K_NOT? K_A K_SET                          # isASetCondition
+    | operator=K_IS K_NOT? K_EMPTY                            # isEmptyCondition
+    | operator=K_IS K_NOT? K_NULL                             # isNullCondition
+    | operator=(K_NOTNULL|K_ISNULL)                           # postgresqlNullCondition   // PostgreSQL
+    | operator=K_IS K_NOT? K_TRUE                             # isTrueCondition
+    | operator=K_IS K_NOT? K_FALSE                            # isFalseCondition
+    | operator=K_IS K_NOT? K_DANGLING                         # isDanglingCondition
+    | operator=K_IS K_NOT? K_UNKNOWN                          # isUnknownCondition        // PostgreSQL
+    | operator=K_IS K_NOT? K_DOCUMENT                         # isDocumentCondition       // PostgreSQL
+    | operator=K_IS K_NOT? K_JSON
+        jsonModifierList?
+        options+=jsonConditionOption*
+        (LPAR (options+=jsonConditionOption+) RPAR)?          # isJsonCondition
 ;
 
 postgresqlSubscript:
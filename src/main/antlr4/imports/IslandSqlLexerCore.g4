@@ -0,0 +1,1161 @@
+/*
+ * Copyright 2023 Philipp Salvisberg <philipp.salvisberg@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+// Dialect independent rules of IslandSqlLexer and IslandSqlOracleLexer.
+// Options are defined in the importing grammars.
+lexer grammar IslandSqlLexerCore;
+
+// Keywords are lexed as ID and mapped to their token type in IslandSqlLexerBase.emit.
+// The keyword text is the token name without the K_ prefix in lower case.
+// The tokens defined before the keywords are listed first to keep the token types of previous versions.
+tokens {
+    WS,
+    ML_HINT,
+    ML_COMMENT,
+    SL_HINT,
+    SL_COMMENT,
+    REMARK_COMMAND,
+    PROMPT_COMMAND,
+    K_A,
+    K_ABORT,
+    K_ABS,
+    K_ABSENT,
+    K_ABSOLUTE,
+    K_ACCESS,
+    K_ACCESSIBLE,
+    K_ACCURACY,
+    K_ACROSS,
+    K_ACTION,
+    K_ADD,
+    K_ADD_SET,
+    K_AFTER,
+    K_AGENT,
+    K_AGGREGATE,
+    K_ALIAS,
+    K_ALL,
+    K_ALLOW,
+    K_ALTER,
+    K_ALWAYS,
+    K_ANALYTIC,
+    K_ANALYZE,
+    K_ANCESTOR,
+    K_AND,
+    K_ANNOTATIONS,
+    K_ANY,
+    K_ANYSCHEMA,
+    K_APPEND,
+    K_APPLY,
+    K_APPROX,
+    K_APPROXIMATE,
+    K_ARE,
+    K_ARRAY,
+    K_AS,
+    K_ASC,
+    K_ASCII,
+    K_ASENSITIVE,
+    K_ASSERT,
+    K_ASSERTION,
+    K_ASSOCIATE,
+    K_AT,
+    K_ATOMIC,
+    K_AUDIT,
+    K_AUTHID,
+    K_AUTO,
+    K_AUTOMATIC,
+    K_AUTONOMOUS_TRANSACTION,
+    K_AVERAGE_RANK,
+    K_BACKWARD,
+    K_BADFILE,
+    K_BATCH,
+    K_BEFORE,
+    K_BEGIN,
+    K_BEGINNING,
+    K_BEQUEATH,
+    K_BETWEEN,
+    K_BFILE,
+    K_BIGINT,
+    K_BIGRAM,
+    K_BIGSERIAL,
+    K_BINARY,
+    K_BINARY_DOUBLE,
+    K_BINARY_FLOAT,
+    K_BIT,
+    K_BLANKLINE,
+    K_BLOB,
+    K_BLOCK,
+    K_BLOCKCHAIN,
+    K_BODY,
+    K_BOOL,
+    K_BOOLEAN,
+    K_BOTH,
+    K_BOX,
+    K_BREADTH,
+    K_BUFFERS,
+    K_BUILD,
+    K_BULK,
+    K_BY,
+    K_BYTE,
+    K_BYTEA,
+    K_C,
+    K_CACHE,
+    K_CALL,
+    K_CALLED,
+    K_CASCADE,
+    K_CASCADED,
+    K_CASE,
+    K_CASE_SENSITIVE,
+    K_CAST,
+    K_CHAIN,
+    K_CHAR,
+    K_CHARACTER,
+    K_CHARACTERISTICS,
+    K_CHARACTERS,
+    K_CHARS,
+    K_CHARSET,
+    K_CHARSETFORM,
+    K_CHARSETID,
+    K_CHAR_CS,
+    K_CHECK,
+    K_CHECKPOINT,
+    K_CIDR,
+    K_CIRCLE,
+    K_CLOB,
+    K_CLONE,
+    K_CLOSE,
+    K_CLUSTER,
+    K_COLLATE,
+    K_COLLATION,
+    K_COLLECT,
+    K_COLLECTION,
+    K_COLUMN,
+    K_COLUMNS,
+    K_COLUMN_NAME,
+    K_COMMENT,
+    K_COMMENTS,
+    K_COMMIT,
+    K_COMMITTED,
+    K_COMPLETE,
+    K_COMPOUND,
+    K_COMPRESSION,
+    K_COMPUTATION,
+    K_CONCURRENT,
+    K_CONDITIONAL,
+    K_CONFLICT,
+    K_CONNECT,
+    K_CONNECT_BY_ROOT,
+    K_CONSTANT,
+    K_CONSTRAINT,
+    K_CONSTRAINTS,
+    K_CONSTRAINT_NAME,
+    K_CONSTRUCTOR,
+    K_CONTAINER,
+    K_CONTAINERS_DEFAULT,
+    K_CONTAINER_MAP,
+    K_CONTENT,
+    K_CONTEXT,
+    K_CONTINUE,
+    K_CONVERSION,
+    K_COPY,
+    K_CORRUPT_XID,
+    K_CORRUPT_XID_ALL,
+    K_COST,
+    K_COSTS,
+    K_COUNT,
+    K_COVERAGE,
+    K_CREATE,
+    K_CREATION,
+    K_CROSS,
+    K_CROSSEDITION,
+    K_CURRENT,
+    K_CURRENT_USER,
+    K_CURSOR,
+    K_CUSTOM,
+    K_CYCLE,
+    K_DAMERAU_LEVENSHTEIN,
+    K_DANGLING,
+    K_DATA,
+    K_DATABASE,
+    K_DATATYPE,
+    K_DATE,
+    K_DAY,
+    K_DBTIMEZONE,
+    K_DB_ROLE_CHANGE,
+    K_DDL,
+    K_DEALLOCATE,
+    K_DEBUG,
+    K_DEC,
+    K_DECIMAL,
+    K_DECLARE,
+    K_DECREMENT,
+    K_DEFAULT,
+    K_DEFAULTS,
+    K_DEFERRABLE,
+    K_DEFERRED,
+    K_DEFINE,
+    K_DEFINER,
+    K_DELETE,
+    K_DEMAND,
+    K_DENSE,
+    K_DENSE_RANK,
+    K_DEPRECATE,
+    K_DEPTH,
+    K_DESC,
+    K_DESTINATION,
+    K_DETAIL,
+    K_DETERMINISTIC,
+    K_DIAGNOSTICS,
+    K_DIMENSION,
+    K_DIRECTIVE,
+    K_DIRECTORY,
+    K_DISABLE,
+    K_DISALLOW,
+    K_DISASSOCIATE,
+    K_DISCARD,
+    K_DISTINCT,
+    K_DO,
+    K_DOCUMENT,
+    K_DOMAIN,
+    K_DOUBLE,
+    K_DROP,
+    K_DUALITY,
+    K_DUPLICATED,
+    K_DURATION,
+    K_EACH,
+    K_EDGE,
+    K_EDITION,
+    K_EDITIONABLE,
+    K_EDITIONING,
+    K_EDIT_TOLERANCE,
+    K_EFSEARCH,
+    K_ELEMENT,
+    K_ELSE,
+    K_ELSEIF,
+    K_ELSIF,
+    K_EMPTY,
+    K_ENABLE,
+    K_ENCODING,
+    K_ENCRYPT,
+    K_END,
+    K_ENFORCED,
+    K_ENTITYESCAPING,
+    K_ENUM,
+    K_ENV,
+    K_ERRCODE,
+    K_ERROR,
+    K_ERRORS,
+    K_ESCAPE,
+    K_ETAG,
+    K_EVALNAME,
+    K_EVALUATE,
+    K_EXACT,
+    K_EXCEPT,
+    K_EXCEPTION,
+    K_EXCEPTIONS,
+    K_EXCEPTION_INIT,
+    K_EXCHANGE,
+    K_EXCLUDE,
+    K_EXCLUDING,
+    K_EXCLUSIVE,
+    K_EXECUTE,
+    K_EXISTING,
+    K_EXISTS,
+    K_EXIT,
+    K_EXPLAIN,
+    K_EXTENDED,
+    K_EXTERNAL,
+    K_EXTRA,
+    K_EXTRACT,
+    K_EXTSCHEMA,
+    K_FACT,
+    K_FALSE,
+    K_FAST,
+    K_FEATURE_COMPARE,
+    K_FETCH,
+    K_FILESYSTEM_LIKE_LOGGING,
+    K_FILTER,
+    K_FINAL,
+    K_FIRST,
+    K_FLEX,
+    K_FLOAT4,
+    K_FLOAT8,
+    K_FLOAT,
+    K_FOLLOWING,
+    K_FOLLOWS,
+    K_FOR,
+    K_FORALL,
+    K_FORCE,
+    K_FOREACH,
+    K_FOREIGN,
+    K_FOREVER,
+    K_FORMAT,
+    K_FORWARD,
+    K_FROM,
+    K_FROM_VECTOR,
+    K_FULL,
+    K_FUNCTION,
+    K_FUZZY_MATCH,
+    K_GENERATED,
+    K_GENERIC_PLAN,
+    K_GET,
+    K_GLOBAL,
+    K_GOTO,
+    K_GRANT,
+    K_GRAPH,
+    K_GRAPHQL,
+    K_GRAPH_TABLE,
+    K_GROUP,
+    K_GROUPING,
+    K_GROUPS,
+    K_HASH,
+    K_HAVING,
+    K_HIDDEN,
+    K_HIDE,
+    K_HIERARCHIES,
+    K_HIERARCHY,
+    K_HIER_ANCESTOR,
+    K_HIER_CAPTION,
+    K_HIER_CHILD_COUNT,
+    K_HIER_DEPTH,
+    K_HIER_DESCRIPTION,
+    K_HIER_LAG,
+    K_HIER_LEAD,
+    K_HIER_LEVEL,
+    K_HIER_MEMBER_NAME,
+    K_HIER_MEMBER_UNIQUE_NAME,
+    K_HIER_PARENT,
+    K_HIER_PARENT_LEVEL,
+    K_HIER_PARENT_UNIQUE_NAME,
+    K_HINT,
+    K_HOLD,
+    K_HOUR,
+    K_ID,
+    K_IDENTIFIED,
+    K_IDENTIFIER,
+    K_IDENTITY,
+    K_IF,
+    K_IGNORE,
+    K_ILIKE,
+    K_IMMEDIATE,
+    K_IMMUTABLE,
+    K_IMPORT,
+    K_IN,
+    K_INCLUDE,
+    K_INCLUDING,
+    K_INCREMENT,
+    K_INDENT,
+    K_INDEX,
+    K_INDEXES,
+    K_INDICATOR,
+    K_INDICES,
+    K_INET,
+    K_INFINITE,
+    K_INFO,
+    K_INHERIT,
+    K_INITIALLY,
+    K_INITRANS,
+    K_INLINE,
+    K_INNER,
+    K_INOUT,
+    K_INPUT,
+    K_INSENSITIVE,
+    K_INSERT,
+    K_INSTANTIABLE,
+    K_INSTEAD,
+    K_INT2,
+    K_INT4,
+    K_INT8,
+    K_INT,
+    K_INTEGER,
+    K_INTERSECT,
+    K_INTERVAL,
+    K_INTO,
+    K_INVISIBLE,
+    K_INVOKER,
+    K_IS,
+    K_ISNULL,
+    K_ISOLATION,
+    K_ITERATE,
+    K_JARO_WINKLER,
+    K_JAVA,
+    K_JOIN,
+    K_JSON,
+    K_JSONB,
+    K_JSON_ARRAY,
+    K_JSON_ARRAYAGG,
+    K_JSON_EQUAL,
+    K_JSON_EXISTS,
+    K_JSON_MERGEPATCH,
+    K_JSON_OBJECT,
+    K_JSON_OBJECTAGG,
+    K_JSON_QUERY,
+    K_JSON_SCALAR,
+    K_JSON_SERIALIZE,
+    K_JSON_TABLE,
+    K_JSON_TRANSFORM,
+    K_JSON_VALUE,
+    K_KEEP,
+    K_KEY,
+    K_KEYS,
+    K_LABEL,
+    K_LAG,
+    K_LAG_DIFF,
+    K_LAG_DIFF_PERCENT,
+    K_LANGUAGE,
+    K_LARGE,
+    K_LAST,
+    K_LATERAL,
+    K_LAX,
+    K_LEAD,
+    K_LEADING,
+    K_LEAD_DIFF,
+    K_LEAD_DIFF_PERCENT,
+    K_LEAKPROOF,
+    K_LEFT,
+    K_LENGTH,
+    K_LEVEL,
+    K_LEVENSHTEIN,
+    K_LIBRARY,
+    K_LIKE2,
+    K_LIKE4,
+    K_LIKE,
+    K_LIKEC,
+    K_LIMIT,
+    K_LINE,
+    K_LISTAGG,
+    K_LISTEN,
+    K_LOAD,
+    K_LOB,
+    K_LOBS,
+    K_LOCAL,
+    K_LOCATION,
+    K_LOCK,
+    K_LOCKED,
+    K_LOG,
+    K_LOGFILE,
+    K_LOGGING,
+    K_LOGICAL,
+    K_LOGOFF,
+    K_LOGON,
+    K_LONG,
+    K_LONGEST_COMMON_SUBSTRING,
+    K_LOOP,
+    K_LSEG,
+    K_MACADDR8,
+    K_MACADDR,
+    K_MAIN,
+    K_MAP,
+    K_MAPPING,
+    K_MASTER,
+    K_MATCH,
+    K_MATCHED,
+    K_MATCHES,
+    K_MATCH_RECOGNIZE,
+    K_MATERIALIZED,
+    K_MAX,
+    K_MAXLEN,
+    K_MAXVALUE,
+    K_MEASURES,
+    K_MEMBER,
+    K_MEMOPTIMIZED,
+    K_MERGE,
+    K_MESSAGE,
+    K_MESSAGE_TEXT,
+    K_METADATA,
+    K_MICROSECONDS,
+    K_MILLISECONDS,
+    K_MINUS,
+    K_MINUTE,
+    K_MINVALUE,
+    K_MISMATCH,
+    K_MISSING,
+    K_MIXED,
+    K_MLE,
+    K_MOD,
+    K_MODE,
+    K_MODEL,
+    K_MODIFY,
+    K_MODULE,
+    K_MONEY,
+    K_MONTH,
+    K_MOVE,
+    K_MULTISET,
+    K_MUTABLE,
+    K_NAME,
+    K_NAN,
+    K_NATIONAL,
+    K_NATURAL,
+    K_NAV,
+    K_NCHAR,
+    K_NCHAR_CS,
+    K_NCLOB,
+    K_NEIGHBOR,
+    K_NESTED,
+    K_NEVER,
+    K_NEW,
+    K_NEWLINE,
+    K_NEXT,
+    K_NO,
+    K_NOAUDIT,
+    K_NOCACHE,
+    K_NOCHECK,
+    K_NOCOPY,
+    K_NOCYCLE,
+    K_NODELETE,
+    K_NOENTITYESCAPING,
+    K_NOINSERT,
+    K_NOLOGGING,
+    K_NOMAXVALUE,
+    K_NOMINVALUE,
+    K_NONE,
+    K_NONEDITIONABLE,
+    K_NONSCHEMA,
+    K_NOORDER,
+    K_NOPARALLEL,
+    K_NOPRECHECK,
+    K_NORELY,
+    K_NORMALIZE,
+    K_NORMALIZED,
+    K_NOSCHEMACHECK,
+    K_NOT,
+    K_NOTHING,
+    K_NOTICE,
+    K_NOTIFY,
+    K_NOTNULL,
+    K_NOUPDATE,
+    K_NOVALIDATE,
+    K_NOWAIT,
+    K_NTH_VALUE,
+    K_NULL,
+    K_NULLS,
+    K_NUMBER,
+    K_NUMERIC,
+    K_NVARCHAR2,
+    K_OBJECT,
+    K_OF,
+    K_OFFSET,
+    K_OID,
+    K_OLD,
+    K_OMIT,
+    K_ON,
+    K_ONE,
+    K_ONLY,
+    K_OPEN,
+    K_OPERATOR,
+    K_OPTION,
+    K_OPTIONS,
+    K_OR,
+    K_ORDER,
+    K_ORDERED,
+    K_ORDINALITY,
+    K_ORGANIZATION,
+    K_OTHERS,
+    K_OUT,
+    K_OUTER,
+    K_OUTPUT,
+    K_OVER,
+    K_OVERFLOW,
+    K_OVERLAP,
+    K_OVERLAPS,
+    K_OVERLAY,
+    K_OVERRIDING,
+    K_PACKAGE,
+    K_PAIRS,
+    K_PARALLEL,
+    K_PARALLEL_ENABLE,
+    K_PARAMETERS,
+    K_PARENT,
+    K_PARTIAL,
+    K_PARTITION,
+    K_PARTITIONS,
+    K_PARTITIONSET,
+    K_PASSING,
+    K_PAST,
+    K_PATH,
+    K_PATTERN,
+    K_PCTFREE,
+    K_PCTUSED,
+    K_PER,
+    K_PERCENT,
+    K_PERFORM,
+    K_PERIOD,
+    K_PERMUTE,
+    K_PERSISTABLE,
+    K_PG_CONTEXT,
+    K_PG_DATATYPE_NAME,
+    K_PG_EXCEPTION_CONTEXT,
+    K_PG_EXCEPTION_DETAIL,
+    K_PG_EXCEPTION_HINT,
+    K_PG_LSN,
+    K_PG_ROUTINE_OID,
+    K_PG_SNAPSHOT,
+    K_PIPE,
+    K_PIPELINED,
+    K_PIVOT,
+    K_PLACING,
+    K_PLAIN,
+    K_PLAN,
+    K_PLUGGABLE,
+    K_POINT,
+    K_POLYGON,
+    K_POLYMORPHIC,
+    K_POSITION,
+    K_PRAGMA,
+    K_PREBUILT,
+    K_PRECEDES,
+    K_PRECEDING,
+    K_PRECHECK,
+    K_PRECISION,
+    K_PREDICTION,
+    K_PREDICTION_COST,
+    K_PREDICTION_DETAILS,
+    K_PREPARE,
+    K_PREPARED,
+    K_PREPEND,
+    K_PRESENT,
+    K_PRESERVE,
+    K_PRETTY,
+    K_PRIMARY,
+    K_PRIOR,
+    K_PRIVATE,
+    K_PROBES,
+    K_PROCEDURE,
+    K_PROPERTIES,
+    K_PROPERTY,
+    K_PUNCTUATION,
+    K_PURE,
+    K_QUALIFY,
+    K_QUERY,
+    K_QUOTES,
+    K_RAISE,
+    K_RANGE,
+    K_RANK,
+    K_RAW,
+    K_READ,
+    K_REAL,
+    K_REASSIGN,
+    K_RECORD,
+    K_RECURSIVE,
+    K_RECURSIVELY,
+    K_REDUCED,
+    K_REF,
+    K_REFERENCE,
+    K_REFERENCES,
+    K_REFERENCING,
+    K_REFRESH,
+    K_REINDEX,
+    K_REJECT,
+    K_RELATE_TO_SHORTER,
+    K_RELATIONAL,
+    K_RELATIVE,
+    K_RELIES_ON,
+    K_RELY,
+    K_REMOVE,
+    K_REMOVE_SET,
+    K_RENAME,
+    K_REPEAT,
+    K_REPEATABLE,
+    K_REPLACE,
+    K_REPLICATION,
+    K_RESERVABLE,
+    K_RESET,
+    K_RESETTABLE,
+    K_RESPECT,
+    K_RESTRICT,
+    K_RESTRICTED,
+    K_RESTRICT_REFERENCES,
+    K_RESULT,
+    K_RESULT_CACHE,
+    K_RETURN,
+    K_RETURNED_SQLSTATE,
+    K_RETURNING,
+    K_RETURNS,
+    K_REVERSE,
+    K_REVOKE,
+    K_REWRITE,
+    K_RIGHT,
+    K_RNDS,
+    K_RNPS,
+    K_ROLLBACK,
+    K_ROUND,
+    K_ROW,
+    K_ROWID,
+    K_ROWS,
+    K_ROWTYPE,
+    K_ROW_COUNT,
+    K_ROW_NUMBER,
+    K_RULES,
+    K_RUNNING,
+    K_SAFE,
+    K_SALT,
+    K_SAMPLE,
+    K_SATISFY,
+    K_SAVE,
+    K_SAVEPOINT,
+    K_SCALAR,
+    K_SCALARS,
+    K_SCHEMA,
+    K_SCHEMACHECK,
+    K_SCHEMA_NAME,
+    K_SCN,
+    K_SCOPE,
+    K_SCROLL,
+    K_SDO_GEOMETRY,
+    K_SEARCH,
+    K_SECOND,
+    K_SECONDS,
+    K_SECURITY,
+    K_SEED,
+    K_SEGMENT,
+    K_SELECT,
+    K_SELF,
+    K_SENTENCE,
+    K_SEQUENCE,
+    K_SEQUENTIAL,
+    K_SERIAL2,
+    K_SERIAL4,
+    K_SERIAL8,
+    K_SERIAL,
+    K_SERIALIZABLE,
+    K_SERIALLY_REUSABLE,
+    K_SERVERERROR,
+    K_SESSION,
+    K_SESSIONTIMEZONE,
+    K_SET,
+    K_SETOF,
+    K_SETS,
+    K_SHARDED,
+    K_SHARD_ENABLE,
+    K_SHARE,
+    K_SHARE_OF,
+    K_SHARING,
+    K_SHOW,
+    K_SHUTDOWN,
+    K_SIBLINGS,
+    K_SIGNATURE,
+    K_SIMILAR,
+    K_SIMPLE,
+    K_SINGLE,
+    K_SIZE,
+    K_SKIP,
+    K_SLICE,
+    K_SMALLINT,
+    K_SMALLSERIAL,
+    K_SNAPSHOT,
+    K_SOME,
+    K_SORT,
+    K_SOURCE,
+    K_SPACE,
+    K_SPARSE,
+    K_SPLIT,
+    K_SQL,
+    K_SQLSTATE,
+    K_SQL_MACRO,
+    K_STABLE,
+    K_STACKED,
+    K_STAGING,
+    K_STANDALONE,
+    K_START,
+    K_STARTUP,
+    K_STATEMENT,
+    K_STATEMENT_ID,
+    K_STATIC,
+    K_STATISTICS,
+    K_STORAGE,
+    K_STORE,
+    K_STORED,
+    K_STRICT,
+    K_STRING,
+    K_STRUCT,
+    K_SUBMULTISET,
+    K_SUBPARTITION,
+    K_SUBSET,
+    K_SUBSTRING,
+    K_SUBTYPE,
+    K_SUMMARY,
+    K_SUPPLEMENTAL,
+    K_SUPPORT,
+    K_SUPPRESSES_WARNING_6009,
+    K_SUSPEND,
+    K_SYMMETRIC,
+    K_SYNCHRONOUS,
+    K_SYSTEM,
+    K_TABLE,
+    K_TABLES,
+    K_TABLESAMPLE,
+    K_TABLESPACE,
+    K_TABLE_NAME,
+    K_TARGET,
+    K_TDO,
+    K_TEMP,
+    K_TEMPORARY,
+    K_TEXT,
+    K_THE,
+    K_THEN,
+    K_TIES,
+    K_TIME,
+    K_TIMESTAMP,
+    K_TIMESTAMPTZ,
+    K_TIMETZ,
+    K_TIMEZONE,
+    K_TIME_BUCKET,
+    K_TIMING,
+    K_TO,
+    K_TRAILING,
+    K_TRANSACTION,
+    K_TRANSFORM,
+    K_TREAT,
+    K_TRIGGER,
+    K_TRIGRAM,
+    K_TRIM,
+    K_TRUE,
+    K_TRUNCATE,
+    K_TRUST,
+    K_TRUSTED,
+    K_TSQUERY,
+    K_TSVECTOR,
+    K_TXID_SNAPSHOT,
+    K_TYPE,
+    K_TYPENAME,
+    K_TYPES,
+    K_UDF,
+    K_UESCAPE,
+    K_UNBOUNDED,
+    K_UNCOMMITTED,
+    K_UNCONDITIONAL,
+    K_UNDER,
+    K_UNION,
+    K_UNIQUE,
+    K_UNKNOWN,
+    K_UNLIMITED,
+    K_UNLISTEN,
+    K_UNLOGGED,
+    K_UNMATCHED,
+    K_UNNEST,
+    K_UNPIVOT,
+    K_UNPLUG,
+    K_UNSAFE,
+    K_UNSCALED,
+    K_UNTIL,
+    K_UNUSABLE,
+    K_UPDATE,
+    K_UPDATED,
+    K_UPSERT,
+    K_UROWID,
+    K_USE,
+    K_USER,
+    K_USING,
+    K_UTF8,
+    K_UUID,
+    K_VACUUM,
+    K_VALIDATE,
+    K_VALIDATE_CONVERSION,
+    K_VALUE,
+    K_VALUES,
+    K_VARBIT,
+    K_VARCHAR2,
+    K_VARCHAR,
+    K_VARIADIC,
+    K_VARRAY,
+    K_VARRAYS,
+    K_VARYING,
+    K_VECTOR,
+    K_VECTOR_CHUNKS,
+    K_VECTOR_SERIALIZE,
+    K_VERBOSE,
+    K_VERSION,
+    K_VERSIONS,
+    K_VERTEX,
+    K_VIEW,
+    K_VIRTUAL,
+    K_VISIBLE,
+    K_VOCABULARY,
+    K_VOLATILE,
+    K_WAIT,
+    K_WAL,
+    K_WARNING,
+    K_WELLFORMED,
+    K_WHEN,
+    K_WHERE,
+    K_WHILE,
+    K_WHITESPACE,
+    K_WHOLE_WORD_MATCH,
+    K_WIDECHAR,
+    K_WINDOW,
+    K_WITH,
+    K_WITHIN,
+    K_WITHOUT,
+    K_WNDS,
+    K_WNPS,
+    K_WORDS,
+    K_WORK,
+    K_WRAPPER,
+    K_WRITE,
+    K_XML,
+    K_XMLATTRIBUTES,
+    K_XMLCAST,
+    K_XMLCOLATTVAL,
+    K_XMLELEMENT,
+    K_XMLEXISTS,
+    K_XMLFOREST,
+    K_XMLNAMESPACES,
+    K_XMLPARSE,
+    K_XMLPI,
+    K_XMLQUERY,
+    K_XMLROOT,
+    K_XMLSCHEMA,
+    K_XMLSERIALIZE,
+    K_XMLTABLE,
+    K_XMLTYPE,
+    K_YAML,
+    K_YEAR,
+    K_YES,
+    K_ZONE
+}
+
+/*----------------------------------------------------------------------------*/
+// Fragments to name expressions and reduce code duplication
+/*----------------------------------------------------------------------------*/
+
+fragment SINGLE_NL: '\r'? '\n';
+fragment HSPACE: [ \t]+;
+fragment CONTINUE_LINE: '-' HSPACE? SINGLE_NL?;
+fragment SQLPLUS_TEXT: (~[\r\n]|CONTINUE_LINE);
+fragment SQLPLUS_END: EOF|SINGLE_NL;
+fragment TO_SQLPLUS_END: ((HSPACE|CONTINUE_LINE) SQLPLUS_TEXT*)? SQLPLUS_END;
+fragment INT: [0-9]+ (LOWBAR [0-9]+)*; // PostgreSQL allows underscores for visual grouping
+fragment STRING_WITH_ESCAPE_CHARS: (['] ('\\'? .)*? ['])+;
+fragment COMMENT_OR_WS: ML_HINT|ML_COMMENT|SL_HINT|SL_COMMENT|WS;
+
+// simplified ranges based on https://www.unicode.org/Public/16.0.0/ucd/emoji/emoji-data.txt
+// \p{Emoji} includes #, *, 0-9 and therefore cannot be used
+fragment EMOJI_BASE:
+       [\u00A9\u00AE]           // copyright, registered
+     | [\u203C-\u3299]          // double exclamation mark .. Japanese “secret” button
+     | [\u{1F000}-\u{1FAF8}]    // mahjong tile east wind .. rightwards pushing hand
+     | [\u{1FAF9}-\u{1FAFF}]    // reserved
+     | [\u{1FC00}-\u{1FFFD}]    // reserved
+;
+// https://www.unicode.org/reports/tr44/#Property_Index
+fragment EMOJI_MODIFIER:
+      [\p{Emoji_Modifier}]
+    | [\p{Variation_Selector}]
+    | [\u200D]                  // Zero Width Joiner, e.g. used to build the family emoji
+;
+fragment EMOJI: EMOJI_BASE EMOJI_MODIFIER?;
+
+/*----------------------------------------------------------------------------*/
+// Whitespace, comments and hints (ML_HINT and ML_COMMENT are dialect specific)
+/*----------------------------------------------------------------------------*/
+
+WS: [ \t\r\n]+ -> channel(HIDDEN);
+SL_HINT: '--+' ~[\r\n]* -> channel(HIDDEN);
+SL_COMMENT: '--' ~[\r\n]* -> channel(HIDDEN);
+
+/*----------------------------------------------------------------------------*/
+// SQL*Plus commands (similar to comments)
+/*----------------------------------------------------------------------------*/
+
+REMARK_COMMAND:
+    'rem' {isBeginOfCommand("rem")}? ('a' ('r' 'k'?)?)? TO_SQLPLUS_END -> channel(HIDDEN)
+;
+
+PROMPT_COMMAND:
+    'pro' {isBeginOfCommand("pro")}? ('m' ('p' 't'?)?)? TO_SQLPLUS_END -> channel(HIDDEN)
+;
+
+/*----------------------------------------------------------------------------*/
+// Keywords
+/*----------------------------------------------------------------------------*/
+
+K_CASE_SENSITIVE: ('case_sensitive'|'case-sensitive'); // original implementation was based on kebab-case, see https://mobile.twitter.com/phsalvisberg/status/1351990195109974018
+
+/*----------------------------------------------------------------------------*/
+// Special characters - naming according HTML entity name
+/*----------------------------------------------------------------------------*/
+
+// see https://html.spec.whatwg.org/multipage/named-characters.html#named-character-references
+// or https://oinam.github.io/entities/
+
+AMP: '&';
+AMP_AMP: '&&';
+AST: '*';
+AST_AST: '**';
+AST_QUEST: '*?';
+BSOL: '\\';
+COLON: ':';
+COLON_EQUALS: ':=';    // no WS allowed between chars in field_definition of OracleDB
+COLON_COLON: '::';     // no WS allowed between COLONs in PostgreSQL
+COMMA: ',';
+COMMAT: '@';
+DOLLAR: '$';
+DOLLAR_END: '$end';
+DOLLAR_ELSE: '$else';
+DOLLAR_ELSIF: '$elsif';
+DOLLAR_ERROR: '$error';
+DOLLAR_IF: '$if';
+DOLLAR_THEN: '$then';
+EQUALS: '=';
+EQUALS_GT: '=>';
+EXCL: '!';
+EXCL_EQUALS: '!=';
+EXCL_TILDE: '!~';
+GT: '>';
+GT_EQUALS: '>=';
+GT_GT: '>>';
+HAT: '^';
+HAT_EQUALS: '^=';
+LCUB: '{';
+LOWBAR: '_';
+LPAR: '(';
+LSQB: '[';
+LT: '<';
+LT_EQUALS: '<=';
+LT_GT: '<>';
+LT_LT: '<<';
+LT_MINUS_GT: '<->';
+MINUS: '-';
+MINUS_GT: '->';
+NUM: '#';
+PERCNT: '%';
+PERIOD: '.';
+PLUS: '+';
+PLUS_QUEST: '+?';
+QUEST: '?';
+QUEST_QUEST: '??';
+RCUB: '}';
+RPAR: ')';
+RSQB: ']';
+SEMI: ';';
+SOL: '/';
+TILDE: '~';
+TILDE_EQUALS: '~=';
+VERBAR: '|';
+VERBAR_VERBAR: '||';
+
+/*----------------------------------------------------------------------------*/
+// Generic operators used by various PostgreSQL extensions
+/*----------------------------------------------------------------------------*/
+
+// based on https://stackoverflow.com/questions/24194110/antlr4-negative-lookahead-in-lexer
+
+// operator not ending on '+' nor '-'
+POSTGRESQL_OPERATOR:
+    (
+          [<>=~!@#%^&|`?]
+        | ('+'|'-' {_input.LA(1) != '-'}?)+ [<>=~!@#%^&|`?] // start single-line comment not allowed
+        | '/' {_input.LA(1) != '*'}? // start of multiline comment not allowed
+        | '*' {_input.LA(1) != '/'}? // end of multiline comment not allowed
+    )+
+;
+// operator can end on '+' or '-' if it contains one of these characters: [~!@#%^&|`?]
+POSTGRESQL_OPERATOR_ENDING_ON_PLUS_OR_MINUS:
+    (
+          [<>=+]
+        | '-' {_input.LA(1) != '-'}? // start single-line comment not allowed
+        | '/' {_input.LA(1) != '*'}? // start of multiline comment not allowed
+        | '*' {_input.LA(1) != '/'}? // end of multiline comment not allowed
+    )*
+    [~!@#%^&|`?]
+    POSTGRESQL_OPERATOR?
+    ('+'|'-' {_input.LA(1) != '-'}?)+ // start single-line comment not allowed
+    -> type(POSTGRESQL_OPERATOR)
+;
+
+/*----------------------------------------------------------------------------*/
+// Data types
+/*----------------------------------------------------------------------------*/
+
+STRING:
+    (['] ~[']* ['])+
+;
+
+N_STRING:
+    'n' STRING
+;
+
+E_STRING:
+    'e' STRING_WITH_ESCAPE_CHARS (COMMENT_OR_WS* STRING_WITH_ESCAPE_CHARS)*
+;
+
+B_STRING:
+    'b' STRING
+;
+
+X_STRING:
+    'x' STRING
+;
+
+U_AMP_STRING:
+    'u&' STRING
+;
+
+Q_STRING:
+    'q' (
+          ['] '[' ( ~']' | ']' ~['] )* ']' [']
+        | ['] '(' ( ~')' | ')' ~['] )* ')' [']
+        | ['] '{' ( ~'}' | '}' ~['] )* '}' [']
+        | ['] '<' ( ~'>' | '>' ~['] )* '>' [']
+        | ['] . {saveQuoteDelimiter1()}? .*? . ['] {checkQuoteDelimiter2()}?
+    )
+;
+
+NQ_STRING:
+    'n' Q_STRING
+;
+
+DOLLAR_STRING:
+    '$$' (('$' ~'$')|~'$')* '$$' {!isInquiryDirective()}?
+;
+
+DOLLAR_ID_STRING:
+    '$' ID '$' {saveDollarIdentifier1()}? .*? '$' ID '$' {checkDollarIdentifier2()}?
+;
+
+NUMBER:
+      (
+        (
+              INT (PERIOD {!isCharAt(".", getCharIndex())}? INT?)?
+            | PERIOD {!isCharAt(".", getCharIndex()-2)}? INT
+        )
+        ('e' ('+'|'-')? INT)?
+        ('f'|'d')?
+      )
+    | '0x' ('_'? [0123456789abcdef]+)+  // PostgreSQL hexidecimal integer
+    | '0o' ('_'? [01234567]+)+          // PostgreSQL octal integer
+    | '0b' ('_'? [01]+)+                // PostgreSQL binary integer
+;
+
+/*----------------------------------------------------------------------------*/
+// Identifier
+/*----------------------------------------------------------------------------*/
+
+UQUOTED_ID: ('u&') '"' ~["]* '"';
+QUOTED_ID: '"' ~["]* '"' ( '"' ~["]* '"' )*;
+ID: ([_\p{Alpha}]|EMOJI) ([_$#0-9\p{Alpha}]|EMOJI)*;
+PLSQL_INQUIRY_DIRECTIVE: '$$' ID;
+POSITIONAL_PARAMETER: '$'[0-9]+;
+
+/*----------------------------------------------------------------------------*/
+// psql exec query command
+/*----------------------------------------------------------------------------*/
+
+PSQL_EXEC: (WS|ML_COMMENT|ML_HINT)* ('\\g'|'\\crosstabview') ~[\n]* (EOF|SINGLE_NL);
+
+/*----------------------------------------------------------------------------*/
+// Any other token
+/*----------------------------------------------------------------------------*/
+
+ANY_OTHER: .;
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2026 Philipp Salvisberg <philipp.salvisberg@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.islandsql.grammar;
+
+import org.antlr.v4.runtime.atn.ATN;
+import org.antlr.v4.runtime.atn.ATNDeserializer;
+import org.antlr.v4.runtime.atn.ATNState;
+import org.antlr.v4.runtime.atn.BasicState;
+import org.antlr.v4.runtime.atn.DecisionState;
+import org.antlr.v4.runtime.atn.EpsilonTransition;
+import org.antlr.v4.runtime.atn.PredictionContextCache;
+import org.antlr.v4.runtime.atn.RuleTransition;
+import org.antlr.v4.runtime.atn.StarLoopEntryState;
+import org.antlr.v4.runtime.atn.Transition;
+import org.antlr.v4.runtime.dfa.DFA;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Dialect-specialized copy of the ATN of IslandSqlParser.
+ * Alternatives starting with a rule that is not supported by the dialect are pruned.
+ * They lead to a state without transitions, hence the prediction never chooses them.
+ * State, decision and alternative numbers are kept. Therefore, the generated parser
+ * works with the specialized ATN and produces the same parse tree types.
+ * Every specialized ATN has its own DFA and prediction context cache shared by all parsers of the dialect.
+ * <p>
+ * Only {@link IslandSqlDialect#ORACLEDB} has a specialized ATN. POSTGRESQL and GENERIC use the
+ * combined ATN of the parser, because the grammar has no rules that are reliably OracleDB-only.
+ * PL/pgSQL code is parsed with the plsql* rules of PL/SQL, and oracleBuiltInDatatype covers
+ * PostgreSQL types such as char, timestamp and boolean as well. Pruning them would reject valid
+ * PostgreSQL code. The remaining OracleDB-only alternatives start with distinct keywords,
+ * so pruning them would not reduce the prediction effort noticeably.
+ * </p>
+ */
+final class DialectAtn {
+    // PL/pgSQL and PostgreSQL-only constructs, reached while parsing OracleDB code
+    // rules named postgresql* that are used for OracleDB code as well must not be listed here
+    private static final List<String> POSTGRESQL_ONLY_RULES = Arrays.asList(
+            "postgresqlDeclareStatement",
+            "postgresqlAssertStatement",
+            "postgresqlExecuteStatement",
+            "postgresqlFetchStatement",
+            "postgresqlForEachStatement",
+            "postgresqlGetDiagnosticsStatement",
+            "postgresqlGetStackedDiagnosticsStatement",
+            "postgresqlMoveStatement",
+            "postgresqlPerformStatement",
+            "postgresqlRaiseStatement",
+            "postgresqlDo",
+            "postgresqlCursorDefinition",
+            "postgresqlAliasDeclaration",
+            "postgresqlOverridingClause",
+            "postgresqlDefaultValuesClause",
+            "postgresqlOnConflictClause",
+            "postgresqlArrayConstructor");
+
+    final ATN atn;
+    final DFA[] decisionToDFA;
+    final PredictionContextCache sharedContextCache = new PredictionContextCache();
+
+    /**
+     * Holder of the ATN for OracleDB, initialized on first use.
+     */
+    private static class OracleDbHolder {
+        static final DialectAtn INSTANCE = new DialectAtn(POSTGRESQL_ONLY_RULES);
+    }
+
+    /**
+     * Constructor. Deserializes a copy of the parser ATN and prunes it.
+     *
+     * @param unsupportedRules Names of the rules not supported by the dialect.
+     */
+    private DialectAtn(List<String> unsupportedRules) {
+        atn = new ATNDeserializer().deserialize(IslandSqlParser._serializedATN.toCharArray());
+        Set<Integer> ruleIndexes = new HashSet<>();
+        List<String> ruleNames = Arrays.asList(IslandSqlParser.ruleNames);
+        for (String ruleName : unsupportedRules) {
+            int ruleIndex = ruleNames.indexOf(ruleName);
+            assert ruleIndex >= 0 : "Rule " + ruleName + " does not exist.";
+            ruleIndexes.add(ruleIndex);
+        }
+        prune(ruleIndexes);
+        decisionToDFA = new DFA[atn.getNumberOfDecisions()];
+        for (int i = 0; i < decisionToDFA.length; i++) {
+            decisionToDFA[i] = new DFA(atn.getDecisionState(i), i);
+        }
+    }
+
+    /**
+     * Gets the specialized ATN of a dialect.
+     *
+     * @param dialect The SQL dialect.
+     * @return The specialized ATN, null if the dialect uses the combined ATN of the parser.
+     */
+    static DialectAtn of(IslandSqlDialect dialect) {
+        return dialect == IslandSqlDialect.ORACLEDB ? OracleDbHolder.INSTANCE : null;
+    }
+
+    /**
+     * Redirects all alternatives starting with an unsupported rule to a state without transitions.
+     * Precedence decisions of left-recursive rules are not changed.
+     *
+     * @param ruleIndexes Indexes of the rules not supported by the dialect.
+     */
+    private void prune(Set<Integer> ruleIndexes) {
+        for (DecisionState decision : atn.decisionToState) {
+            if (decision instanceof StarLoopEntryState && ((StarLoopEntryState) decision).isPrecedenceDecision) {
+                continue;
+            }
+            for (int i = 0; i < decision.getNumberOfTransitions(); i++) {
+                if (ruleIndexes.contains(getFirstRuleIndex(decision.transition(i).target))) {
+                    BasicState deadEnd = new BasicState();
+                    deadEnd.ruleIndex = decision.ruleIndex;
+                    atn.addState(deadEnd);
+                    decision.setTransition(i, new EpsilonTransition(deadEnd));
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the rule invoked at the start of a path before matching a token.
+     * Follows single epsilon transitions only.
+     *
+     * @param state The first state of an alternative.
+     * @return The index of the invoked rule, -1 if the path does not start with a rule invocation.
+     */
+    static int getFirstRuleIndex(ATNState state) {
+        ATNState current = state;
+        while (current.getNumberOfTransitions() == 1) {
+            Transition transition = current.transition(0);
+            if (transition instanceof RuleTransition) {
+                return transition.target.ruleIndex;
+            }
+            if (!(transition instanceof EpsilonTransition)) {
+                return -1;
+            }
+            current = transition.target;
+        }
+        return -1;
+    }
+}
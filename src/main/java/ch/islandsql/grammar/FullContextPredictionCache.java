@@ -0,0 +1,172 @@
+/*
+ * Copyright 2026 Philipp Salvisberg <philipp.salvisberg@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.islandsql.grammar;
+
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.RuleContext;
+import org.antlr.v4.runtime.TokenStream;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Results of adaptive predictions that required full context (LL) prediction.
+ * The DFA caches SLL predictions only. A full context prediction is repeated for every
+ * occurrence, e.g. for every operator in a long chain of conditions. The result of a prediction
+ * depends on the decision, the precedence, the invoking states of the outer context and the
+ * tokens examined. Hence, a prediction with the same inputs can reuse the result.
+ * The cache is bound to a parser instance and limited in size.
+ */
+final class FullContextPredictionCache {
+    private static final int MAX_KEYS = 256;
+    private static final int MAX_ENTRIES_PER_KEY = 8;
+
+    private final Map<Key, List<Entry>> entries = new HashMap<>();
+
+    /**
+     * Decision, precedence and invoking states of the outer context.
+     */
+    static final class Key {
+        private final int decision;
+        private final int precedence;
+        private final int[] invokingStates;
+        private final int hashCode;
+
+        /**
+         * Constructor.
+         *
+         * @param decision     The decision number.
+         * @param precedence   The current precedence of the parser.
+         * @param outerContext The outer context of the prediction.
+         */
+        Key(int decision, int precedence, ParserRuleContext outerContext) {
+            this.decision = decision;
+            this.precedence = precedence;
+            int size = 0;
+            for (RuleContext ctx = outerContext; ctx != null; ctx = ctx.parent) {
+                size++;
+            }
+            invokingStates = new int[size];
+            int i = 0;
+            for (RuleContext ctx = outerContext; ctx != null; ctx = ctx.parent) {
+                invokingStates[i++] = ctx.invokingState;
+            }
+            hashCode = 31 * (31 * decision + precedence) + Arrays.hashCode(invokingStates);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return decision == other.decision && precedence == other.precedence
+                    && Arrays.equals(invokingStates, other.invokingStates);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    /**
+     * Token types examined by a prediction and the predicted alternative.
+     */
+    private static final class Entry {
+        private final int[] tokenTypes;
+        private final int alt;
+
+        /**
+         * Constructor.
+         *
+         * @param tokenTypes The token types examined by the prediction.
+         * @param alt        The predicted alternative.
+         */
+        Entry(int[] tokenTypes, int alt) {
+            this.tokenTypes = tokenTypes;
+            this.alt = alt;
+        }
+    }
+
+    /**
+     * Gets the alternative of a previous prediction with the same inputs.
+     *
+     * @param key   The decision, precedence and outer context.
+     * @param input The token stream positioned at the start of the prediction.
+     * @return The predicted alternative, 0 if there is no previous prediction with the same inputs.
+     */
+    int get(Key key, TokenStream input) {
+        List<Entry> candidates = entries.get(key);
+        if (candidates != null) {
+            for (Entry entry : candidates) {
+                if (matches(entry.tokenTypes, input)) {
+                    return entry.alt;
+                }
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Stores the result of a prediction.
+     *
+     * @param key      The decision, precedence and outer context.
+     * @param input    The token stream positioned at the start of the prediction.
+     * @param maxIndex The index of the last token examined by the prediction.
+     * @param alt      The predicted alternative.
+     */
+    void put(Key key, TokenStream input, int maxIndex, int alt) {
+        List<Integer> types = new ArrayList<>();
+        for (int i = 1; input.LT(i).getTokenIndex() <= maxIndex; i++) {
+            types.add(input.LA(i));
+            if (input.LA(i) == TokenStream.EOF) {
+                break;
+            }
+        }
+        if (entries.size() >= MAX_KEYS && !entries.containsKey(key)) {
+            entries.clear();
+        }
+        List<Entry> candidates = entries.computeIfAbsent(key, k -> new ArrayList<>());
+        if (candidates.size() >= MAX_ENTRIES_PER_KEY) {
+            candidates.remove(0);
+        }
+        candidates.add(new Entry(types.stream().mapToInt(Integer::intValue).toArray(), alt));
+    }
+
+    /**
+     * Checks if the next tokens have the given types.
+     *
+     * @param tokenTypes The expected token types.
+     * @param input      The token stream.
+     * @return Returns true if the next tokens have the expected types.
+     */
+    private static boolean matches(int[] tokenTypes, TokenStream input) {
+        for (int i = 0; i < tokenTypes.length; i++) {
+            if (input.LA(i + 1) != tokenTypes[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -16,22 +16,43 @@
 
 package ch.islandsql.grammar;
 
+import ch.islandsql.grammar.util.CancellationToken;
 import ch.islandsql.grammar.util.ConverterUtil;
 import ch.islandsql.grammar.util.LexerMetrics;
+import ch.islandsql.grammar.util.ParseTreeIndex;
 import ch.islandsql.grammar.util.ParseTreeUtil;
 import ch.islandsql.grammar.util.ParserMetrics;
+import ch.islandsql.grammar.util.StatementBoundaries;
 import ch.islandsql.grammar.util.SyntaxErrorEntry;
 import ch.islandsql.grammar.util.SyntaxErrorListener;
 import ch.islandsql.grammar.util.TokenStreamUtil;
+import ch.islandsql.grammar.util.ValidationResult;
+import org.antlr.v4.runtime.BailErrorStrategy;
 import org.antlr.v4.runtime.CharStreams;
 import org.antlr.v4.runtime.CodePointCharStream;
 import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.DefaultErrorStrategy;
+import org.antlr.v4.runtime.NoViableAltException;
 import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenSource;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.Interval;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
 import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.TerminalNode;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 /**
  * Produces a parse-tree based on the content of a SQL-script.
@@ -41,8 +62,12 @@ public class IslandSqlDocument {
     private final IslandSqlDialect dialect;
     private final IslandSqlParser.FileContext file;
     private final List<SyntaxErrorEntry> syntaxErrors;
+    private final LazySubtrees lazySubtrees = new LazySubtrees(this::invalidateIndex);
+    private final int maxSyntaxErrors;
     private final LexerMetrics lexerMetrics;
     private final ParserMetrics parserMetrics;
+    private final StatementBoundaries statementBoundaries;
+    private volatile ParseTreeIndex index;
 
     /**
      * Constructor.
@@ -51,29 +76,551 @@ public class IslandSqlDocument {
      */
     private IslandSqlDocument(Builder builder) {
         this.dialect = builder.dialect;
+        this.maxSyntaxErrors = builder.maxSyntaxErrors;
+        CancellationToken cancellationToken = null;
+        if (builder.cancellationToken != null || builder.deadline != null || builder.maxSyntaxErrors > 0) {
+            cancellationToken = createCancellationToken(builder);
+        }
         CodePointCharStream charStream = CharStreams.fromString(builder.sql);
-        IslandSqlLexer lexer = new IslandSqlLexer(charStream);
-        lexer.setDialect(this.dialect);
-        SyntaxErrorListener errorListener = new SyntaxErrorListener();
+        IslandSqlLexer lexer = IslandSqlLexerBase.createLexer(charStream, this.dialect);
+        lexer.setCancellationToken(cancellationToken);
+        SyntaxErrorListener errorListener = new SyntaxErrorListener(builder.maxSyntaxErrors, builder.lightweightSyntaxErrors);
+        errorListener.setCancellationToken(cancellationToken);
         lexer.removeErrorListeners();
         lexer.addErrorListener(errorListener);
         CommonTokenStream tokenStream = new CommonTokenStream(lexer);
-        this.lexerMetrics = !builder.hideOutOfScopeTokens ? null : TokenStreamUtil.hideOutOfScopeTokens(tokenStream, errorListener, dialect);
+        LexerMetrics lexerMetrics = null;
+        this.statementBoundaries = builder.hideOutOfScopeTokens ? new StatementBoundaries() : null;
+        if (builder.hideOutOfScopeTokens) {
+            try {
+                lexerMetrics = TokenStreamUtil.hideOutOfScopeTokens(tokenStream, errorListener, dialect,
+                        cancellationToken, statementBoundaries);
+            } catch (ParseCancellationException e) {
+                // reported after parsing, the parser stops on the first rule entry
+            }
+        }
+        if (builder.compactLiteralLists) {
+            try {
+                TokenStreamUtil.compactLiteralLists(tokenStream);
+            } catch (ParseCancellationException e) {
+                // reported after parsing, the parser stops on the first rule entry
+            }
+        }
+        this.lexerMetrics = lexerMetrics;
         IslandSqlParser parser = new IslandSqlParser(tokenStream);
+        parser.setDialect(this.dialect);
         parser.setProfile(builder.profile);
+        parser.setMaxDepth(builder.maxDepth);
+        parser.setCancellationToken(cancellationToken);
+        parser.setStatementBoundaries(statementBoundaries);
+        parser.setMaxStatementTokens(builder.maxStatementTokens);
+        parser.setMaxStatementNodes(builder.maxStatementNodes);
+        parser.setMaxStatementLookahead(builder.maxStatementLookahead);
+        parser.setFlattenOperatorChains(builder.flattenOperatorChains);
+        if (builder.statementRecovery && statementBoundaries != null) {
+            parser.setErrorHandler(new IslandSqlErrorStrategy());
+        }
+        if (builder.statementHandler != null) {
+            parser.setStatementHandler(createStatementHandler(builder, tokenStream, parser, errorListener,
+                    cancellationToken, getLazySubtrees(builder)));
+        }
         parser.removeErrorListeners();
         parser.addErrorListener(errorListener);
         long parserStartTime = System.nanoTime();
         long parserStartMemory = Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory();
-        this.file = parser.file();
+        List<SubprogramToken> subprograms = parseSubprograms(builder, tokenStream, statementBoundaries,
+                cancellationToken);
+        this.file = subprograms.isEmpty() ? parseFile(parser)
+                : parseFileWithSubprograms(builder, parser, tokenStream, subprograms, errorListener);
         file.setTokenStream(tokenStream);
-        parseSubtrees(builder, file, lexer, parser);
+        SubtreeStats subtreeStats = parseSubtrees(builder, parser.takeSubtreeCandidates(file), lexer, parser,
+                errorListener, cancellationToken, getLazySubtrees(builder));
+        if (cancellationToken != null && cancellationToken.isTriggered()) {
+            reportCancellation(errorListener, tokenStream, cancellationToken);
+        }
         long parserTime = System.nanoTime() - parserStartTime;
         long parserMemory = Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory() - parserStartMemory;
-        this.parserMetrics = new ParserMetrics(parserTime, parserMemory, parser.getParseInfo());
+        this.parserMetrics = new ParserMetrics(parserTime, parserMemory, parser.getParseInfo(), subtreeStats.count,
+                subtreeStats.time, subtreeStats.elapsedTime, subtreeStats.threads);
         this.syntaxErrors = errorListener.getSyntaxErrors();
     }
 
+    /**
+     * Gets the container to register the code to be parsed on first access.
+     *
+     * @param builder The builder with parameters used to build the IslandSqlDocument.
+     * @return The lazy subtrees, null if subtrees are parsed immediately.
+     */
+    private LazySubtrees getLazySubtrees(Builder builder) {
+        return builder.lazySubtrees && !builder.profile ? lazySubtrees : null;
+    }
+
+    /**
+     * Parses the file and returns the partial parse tree when parsing is cancelled
+     * due to a too deep nesting of rule invocations or via cancellation token.
+     * A too deep nesting is reported as syntax error.
+     * Statements exceeding the statement budget are added as {@link ShallowStatementContext}
+     * and parsing resumes at the next statement. The same applies to statements abandoned
+     * by the {@link IslandSqlErrorStrategy}, but they are kept as partially parsed statements.
+     *
+     * @param parser The parser to be used.
+     * @return The root node of the (partial) parse tree.
+     */
+    private static IslandSqlParser.FileContext parseFile(IslandSqlParser parser) {
+        IslandSqlParser.FileContext file = null;
+        while (true) {
+            try {
+                return appendFile(file, parser.file());
+            } catch (IslandSqlErrorStrategy.StatementRecoveryException e) {
+                // parser is positioned at the start of the next statement
+                file = appendFile(file, getRootFile(parser));
+                parser.getErrorHandler().reset(parser);
+            } catch (IslandSqlParserBase.StatementBudgetExceededException e) {
+                IslandSqlParser.FileContext part = getRootFile(parser);
+                if (part.children != null && !part.children.isEmpty()) {
+                    ParseTree last = part.children.get(part.children.size() - 1);
+                    if (last instanceof ParserRuleContext && ((ParserRuleContext) last).start.getTokenIndex() >= e.getStartTokenIndex()) {
+                        // partially parsed statement
+                        part.removeLastChild();
+                    }
+                }
+                file = appendFile(file, part);
+                int resumeIndex = addShallowStatement(parser, file, e.getStartTokenIndex(), e.getMessage());
+                if (parser.getStatementHandler() != null) {
+                    ParseTree shallow = file.children.remove(file.children.size() - 1);
+                    parser.getStatementHandler().handle((IslandSqlParser.StatementContext) shallow);
+                }
+                parser.getErrorHandler().reset(parser);
+                parser.getTokenStream().seek(resumeIndex);
+            } catch (ParseCancellationException | StackOverflowError e) {
+                if (e instanceof StackOverflowError) {
+                    parser.notifyErrorListeners(parser.getCurrentToken(), "stack overflow, nesting too deep", null);
+                }
+                return appendFile(file, getRootFile(parser));
+            }
+        }
+    }
+
+    /**
+     * Parses the function and procedure definitions at the top level of package bodies concurrently,
+     * if configured via {@link Builder#subprogramThreads(int)}. Every definition is parsed by a dedicated
+     * parser on a copy of the token list. The first token of a definition parsed completely without syntax
+     * errors is replaced by a {@link SubprogramToken} in the token stream of the main parser.
+     *
+     * @param builder The builder with parameters used to build the IslandSqlDocument.
+     * @param tokenStream The token stream of the main parser.
+     * @param boundaries The statement boundaries found by the scope lexer, null if unknown.
+     * @param cancellationToken The token to stop parsing, null if parsing cannot be cancelled.
+     * @return The tokens replacing the first token of a definition, empty if nothing has been parsed in advance.
+     */
+    private static List<SubprogramToken> parseSubprograms(Builder builder, CommonTokenStream tokenStream,
+                                                          StatementBoundaries boundaries,
+                                                          CancellationToken cancellationToken) {
+        List<SubprogramToken> subprograms = new ArrayList<>();
+        if (builder.subprogramThreads <= 1 || boundaries == null || builder.profile || builder.maxDepth > 0
+                || builder.maxStatementNodes > 0 || builder.maxStatementLookahead > 0 || builder.statementHandler != null
+                || (cancellationToken != null && cancellationToken.isTriggered())) {
+            return subprograms;
+        }
+        List<Interval> units = TokenStreamUtil.findSubprograms(tokenStream, boundaries);
+        if (units.size() < 2) {
+            return subprograms;
+        }
+        // the dedicated parsers read a copy, the token list of the main parser gets the subprogram tokens
+        List<Token> tokens = tokenStream.getTokens();
+        List<Token> sharedTokens = new ArrayList<>(tokens);
+        Queue<IslandSqlParser> parsers = new ConcurrentLinkedQueue<>();
+        int threads = Math.min(builder.subprogramThreads, units.size());
+        ExecutorService executor = Executors.newFixedThreadPool(threads, task -> {
+            Thread thread = new Thread(null, task, "IslandSqlSubprogram", builder.stackSize);
+            thread.setDaemon(true);
+            return thread;
+        });
+        boolean completed = false;
+        try {
+            List<Future<IslandSqlParser.ItemlistItemContext>> futures = new ArrayList<>();
+            for (Interval unit : units) {
+                futures.add(executor.submit(() -> parseSubprogram(builder, unit, sharedTokens,
+                        tokenStream.getTokenSource(), parsers, cancellationToken)));
+            }
+            for (int i = 0; i < units.size(); i++) {
+                IslandSqlParser.ItemlistItemContext item;
+                try {
+                    item = futures.get(i).get();
+                } catch (ExecutionException e) {
+                    // fail-safe, the definition is parsed by the main parser
+                    item = null;
+                }
+                if (item != null) {
+                    Interval unit = units.get(i);
+                    SubprogramToken subprogram = new SubprogramToken(tokens.get(unit.a), unit.b, item);
+                    tokens.set(unit.a, subprogram);
+                    subprograms.add(subprogram);
+                }
+            }
+            completed = true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdownNow();
+            if (!completed) {
+                // parse all definitions with the main parser
+                restoreTokens(tokenStream, subprograms);
+                subprograms.clear();
+            }
+        }
+        return subprograms;
+    }
+
+    /**
+     * Parses a function or procedure definition with a parser taken from the pool or a new parser.
+     * The parser stops on the first syntax error.
+     *
+     * @param builder The builder with parameters used to build the IslandSqlDocument.
+     * @param unit The token index range of the definition.
+     * @param tokens The copy of the token list of the main parser.
+     * @param tokenSource The lexer of the main parser.
+     * @param parsers The pool of parsers, the parser is returned to the pool after use.
+     * @param cancellationToken The token to stop parsing, null if parsing cannot be cancelled.
+     * @return The parse tree of the definition, null if the definition does not end at the expected token or contains syntax errors.
+     */
+    private static IslandSqlParser.ItemlistItemContext parseSubprogram(Builder builder, Interval unit, List<Token> tokens,
+                                                                       TokenSource tokenSource,
+                                                                       Queue<IslandSqlParser> parsers,
+                                                                       CancellationToken cancellationToken) {
+        IslandSqlParser subprogramParser = parsers.poll();
+        if (subprogramParser == null) {
+            subprogramParser = new IslandSqlParser(new SharedTokenStream(tokenSource, tokens));
+            subprogramParser.setDialect(builder.dialect);
+            subprogramParser.setFlattenOperatorChains(builder.flattenOperatorChains);
+            subprogramParser.setCancellationToken(cancellationToken);
+            subprogramParser.setErrorHandler(new BailErrorStrategy());
+            subprogramParser.removeErrorListeners();
+        }
+        try {
+            subprogramParser.reset();
+            subprogramParser.getTokenStream().seek(unit.a);
+            IslandSqlParser.ItemlistItemContext item = subprogramParser.itemlistItem();
+            if (subprogramParser.getNumberOfSyntaxErrors() == 0 && item.stop != null
+                    && item.stop.getTokenIndex() == unit.b) {
+                return item;
+            }
+        } catch (ParseCancellationException | StackOverflowError e) {
+            // parsed by the main parser
+        } finally {
+            parsers.offer(subprogramParser);
+        }
+        return null;
+    }
+
+    /**
+     * Parses the file with function and procedure definitions parsed in advance and restores
+     * the original tokens afterwards. Syntax errors that do not involve a definition parsed in advance
+     * are reported as in a sequential parse. Otherwise, the original tokens of the involved definitions
+     * are restored and the file is parsed again. The main parser parses only these definitions, the others
+     * are still replaced by their parse trees. The file is parsed with all original tokens, when the syntax
+     * errors would reach the maximum number of errors, to stop parsing as in a sequential parse.
+     *
+     * @param builder The builder with parameters used to build the IslandSqlDocument.
+     * @param parser The main parser.
+     * @param tokenStream The token stream of the main parser.
+     * @param subprograms The tokens replacing the first token of a definition.
+     * @param errorListener The error listener used for the main parse tree.
+     * @return The root node of the (partial) parse tree.
+     */
+    private static IslandSqlParser.FileContext parseFileWithSubprograms(Builder builder, IslandSqlParser parser,
+                                                                        CommonTokenStream tokenStream,
+                                                                        List<SubprogramToken> subprograms,
+                                                                        SyntaxErrorListener errorListener) {
+        List<SubprogramToken> remaining = new ArrayList<>(subprograms);
+        try {
+            while (!remaining.isEmpty()) {
+                // full entries to find the involved definitions, result entries as configured
+                SyntaxErrorListener subprogramErrorListener = new SyntaxErrorListener();
+                SyntaxErrorListener resultErrorListener = new SyntaxErrorListener(0, builder.lightweightSyntaxErrors);
+                parser.removeErrorListeners();
+                parser.addErrorListener(subprogramErrorListener);
+                parser.addErrorListener(resultErrorListener);
+                IslandSqlParser.FileContext file = parseFile(parser);
+                List<SyntaxErrorEntry> syntaxErrors = resultErrorListener.getSyntaxErrors();
+                if (syntaxErrors.isEmpty()) {
+                    return file;
+                }
+                List<SubprogramToken> failed = findFailedSubprograms(parser, remaining,
+                        subprogramErrorListener.getSyntaxErrors());
+                if (failed.isEmpty()) {
+                    if (builder.maxSyntaxErrors <= 0
+                            || errorListener.getSyntaxErrors().size() + syntaxErrors.size() < builder.maxSyntaxErrors) {
+                        errorListener.addSyntaxErrors(syntaxErrors);
+                        return file;
+                    }
+                    failed = new ArrayList<>(remaining);
+                }
+                restoreTokens(tokenStream, failed);
+                remaining.removeAll(failed);
+                parser.reset();
+            }
+        } finally {
+            restoreTokens(tokenStream, remaining);
+            parser.removeErrorListeners();
+            parser.addErrorListener(errorListener);
+        }
+        return parseFile(parser);
+    }
+
+    /**
+     * Finds the definitions parsed in advance that are involved in syntax errors of the main parser.
+     * A definition is involved, if its tokens are within the range of tokens read to detect a syntax
+     * error or if the main parser consumed its subprogram token without replacing it by the parse tree,
+     * e.g. during error recovery.
+     *
+     * @param parser The main parser after parsing the file.
+     * @param subprograms The tokens replacing the first token of a definition in the token stream.
+     * @param syntaxErrors The syntax errors reported by the main parser, with offending token and exception.
+     * @return The involved definitions, all definitions if an error has no offending token.
+     */
+    private static List<SubprogramToken> findFailedSubprograms(IslandSqlParser parser,
+                                                               List<SubprogramToken> subprograms,
+                                                               List<SyntaxErrorEntry> syntaxErrors) {
+        List<SubprogramToken> failed = new ArrayList<>();
+        for (SubprogramToken subprogram : subprograms) {
+            boolean involved = parser.getUnsplicedSubprograms().contains(subprogram);
+            for (int i = 0; i < syntaxErrors.size() && !involved; i++) {
+                SyntaxErrorEntry syntaxError = syntaxErrors.get(i);
+                if (!(syntaxError.getOffendingSymbol() instanceof Token)) {
+                    return new ArrayList<>(subprograms);
+                }
+                int stopIndex = ((Token) syntaxError.getOffendingSymbol()).getTokenIndex();
+                int startIndex = syntaxError.getException() instanceof NoViableAltException
+                        ? ((NoViableAltException) syntaxError.getException()).getStartToken().getTokenIndex()
+                        : stopIndex;
+                involved = subprogram.getTokenIndex() <= stopIndex && subprogram.getLastTokenIndex() >= startIndex;
+            }
+            if (involved) {
+                failed.add(subprogram);
+            }
+        }
+        return failed;
+    }
+
+    /**
+     * Replaces the subprogram tokens by the original tokens in the token stream.
+     *
+     * @param tokenStream The token stream of the main parser.
+     * @param subprograms The tokens replacing the first token of a definition.
+     */
+    private static void restoreTokens(CommonTokenStream tokenStream, List<SubprogramToken> subprograms) {
+        List<Token> tokens = tokenStream.getTokens();
+        for (SubprogramToken subprogram : subprograms) {
+            tokens.set(subprogram.getTokenIndex(), subprogram.getOriginalToken());
+        }
+    }
+
+    /**
+     * Creates a statement handler that adds the subtrees to a completed statement
+     * before passing it to the statement handler of the builder.
+     * The subtrees are parsed with a dedicated lexer and parser, since the main parser is still running.
+     *
+     * @param builder The builder with parameters used to build the IslandSqlDocument.
+     * @param tokenStream The token stream of the main parse tree.
+     * @param parser The main parser, records the code to be parsed as subtree.
+     * @param errorListener The error listener used for the main parse tree.
+     * @param cancellationToken The token to stop parsing subtrees, null if parsing cannot be cancelled.
+     * @param lazySubtrees The container to register the code to be parsed on first access, null to parse it immediately.
+     * @return The statement handler to be used by the main parser.
+     */
+    private static StatementHandler createStatementHandler(Builder builder, CommonTokenStream tokenStream,
+                                                           IslandSqlParser parser,
+                                                           SyntaxErrorListener errorListener,
+                                                           CancellationToken cancellationToken,
+                                                           LazySubtrees lazySubtrees) {
+        IslandSqlParser subtreeParser = createSubtreeParser(builder, errorListener, cancellationToken);
+        IslandSqlLexer subtreeLexer = (IslandSqlLexer) subtreeParser.getTokenStream().getTokenSource();
+        return statement -> {
+            // detached statements cannot access the token stream via file
+            statement.setTokenStream(tokenStream);
+            parseSubtrees(builder, parser.takeSubtreeCandidates(statement), subtreeLexer, subtreeParser,
+                    errorListener, cancellationToken, lazySubtrees);
+            builder.statementHandler.handle(statement);
+        };
+    }
+
+    /**
+     * Gets the root node of the last parse, even if parsing has been cancelled.
+     *
+     * @param parser The parser used to parse the file.
+     * @return The (partial) root node or an empty file node.
+     */
+    private static IslandSqlParser.FileContext getRootFile(IslandSqlParser parser) {
+        ParserRuleContext root = parser.getRootContext();
+        return root instanceof IslandSqlParser.FileContext ? (IslandSqlParser.FileContext) root : new IslandSqlParser.FileContext(null, 0);
+    }
+
+    /**
+     * Moves the children of a file parsed after resuming to the file parsed before.
+     *
+     * @param file The file parsed so far, null if there is none.
+     * @param part The file parsed after resuming.
+     * @return The file containing the children of both files.
+     */
+    private static IslandSqlParser.FileContext appendFile(IslandSqlParser.FileContext file, IslandSqlParser.FileContext part) {
+        if (file == null) {
+            return part;
+        }
+        if (part.children != null) {
+            for (ParseTree child : part.children) {
+                if (child instanceof ParserRuleContext) {
+                    ((ParserRuleContext) child).parent = file;
+                    file.addChild((ParserRuleContext) child);
+                } else if (child instanceof TerminalNode) {
+                    ((TerminalNode) child).setParent(file);
+                    file.addAnyChild(child);
+                }
+            }
+        }
+        if (part.stop != null) {
+            file.stop = part.stop;
+        }
+        return file;
+    }
+
+    /**
+     * Adds a statement without parsing it. The statement ends before the next statement
+     * found by the scope lexer. Without scope lexer the statement ends with the next
+     * semicolon or slash.
+     *
+     * @param parser          The parser used to parse the file.
+     * @param file            The file to add the statement to.
+     * @param startTokenIndex The index of the first token of the statement.
+     * @param reason          The reason why the statement is not parsed.
+     * @return The index of the token to resume parsing.
+     */
+    private static int addShallowStatement(IslandSqlParser parser, IslandSqlParser.FileContext file,
+                                           int startTokenIndex, String reason) {
+        CommonTokenStream tokenStream = (CommonTokenStream) parser.getTokenStream();
+        tokenStream.fill();
+        int eofIndex = tokenStream.size() - 1;
+        int resumeIndex = -1;
+        if (parser.getStatementBoundaries() != null) {
+            resumeIndex = parser.getStatementBoundaries().getNextStartTokenIndex(startTokenIndex);
+        } else {
+            for (int i = startTokenIndex; i < eofIndex && resumeIndex < 0; i++) {
+                Token token = tokenStream.get(i);
+                if (token.getChannel() == Token.DEFAULT_CHANNEL
+                        && (token.getType() == IslandSqlLexer.SEMI || token.getType() == IslandSqlLexer.SOL)) {
+                    resumeIndex = i + 1;
+                }
+            }
+        }
+        if (resumeIndex < 0) {
+            resumeIndex = eofIndex;
+        }
+        int stopIndex = resumeIndex - 1;
+        while (stopIndex > startTokenIndex && tokenStream.get(stopIndex).getChannel() != Token.DEFAULT_CHANNEL) {
+            stopIndex--;
+        }
+        file.addChild(new ShallowStatementContext(file, tokenStream.get(startTokenIndex), tokenStream.get(stopIndex), reason));
+        return resumeIndex;
+    }
+
+    /**
+     * Reports a cancelled lexer or parser as syntax error at the last token read.
+     *
+     * @param errorListener The error listener to report the cancellation.
+     * @param tokenStream The token stream of the main parse tree.
+     * @param cancellationToken The token that stopped lexing or parsing.
+     */
+    private static void reportCancellation(SyntaxErrorListener errorListener, CommonTokenStream tokenStream,
+                                           CancellationToken cancellationToken) {
+        Token offendingToken = null;
+        int size = tokenStream.getTokens().size();
+        if (size > 0) {
+            offendingToken = tokenStream.getTokens().get(size - 1);
+        }
+        errorListener.syntaxErrorStop(offendingToken, cancellationToken.getMessage());
+    }
+
+    /**
+     * Creates the cancellation token of a build. The token is linked to the token passed to the
+     * builder and gets the deadline of the builder. The token passed to the builder is not changed,
+     * it can be shared by several builds with different deadlines.
+     *
+     * @param builder The builder with parameters used to build the IslandSqlDocument.
+     * @return The cancellation token used by the lexers, parsers and the error listener.
+     */
+    private static CancellationToken createCancellationToken(Builder builder) {
+        CancellationToken cancellationToken = new CancellationToken(builder.cancellationToken);
+        if (builder.deadline != null) {
+            cancellationToken.setDeadline(builder.deadline);
+        }
+        return cancellationToken;
+    }
+
+    /**
+     * Validates the syntax of the SQL script without keeping a parse tree.
+     * Parses with SLL prediction and bails out on the first error. Only in this case
+     * the script is parsed again with LL prediction to determine the first syntax error.
+     * A parse tree is built only when subtrees are requested, to find the code to be parsed.
+     *
+     * @param builder The builder with parameters used to validate the SQL script.
+     * @return The validation result with the first syntax error.
+     */
+    private static ValidationResult validate(Builder builder) {
+        CancellationToken cancellationToken = createCancellationToken(builder);
+        SyntaxErrorListener errorListener = new SyntaxErrorListener(1, true);
+        errorListener.setCancellationToken(cancellationToken);
+        IslandSqlLexer lexer = IslandSqlLexerBase.createLexer(CharStreams.fromString(builder.sql), builder.dialect);
+        lexer.setCancellationToken(cancellationToken);
+        lexer.removeErrorListeners();
+        lexer.addErrorListener(errorListener);
+        CommonTokenStream tokenStream = new CommonTokenStream(lexer);
+        boolean subtrees = builder.subtrees && (builder.dialect == IslandSqlDialect.POSTGRESQL || builder.dialect == IslandSqlDialect.GENERIC);
+        try {
+            if (builder.hideOutOfScopeTokens) {
+                TokenStreamUtil.hideOutOfScopeTokens(tokenStream, errorListener, builder.dialect, cancellationToken, null);
+            }
+            if (builder.compactLiteralLists) {
+                TokenStreamUtil.compactLiteralLists(tokenStream);
+            }
+            IslandSqlParser parser = new IslandSqlParser(tokenStream);
+            parser.setDialect(builder.dialect);
+            parser.setBuildParseTree(subtrees);
+            parser.setMaxDepth(builder.maxDepth);
+            parser.setFlattenOperatorChains(builder.flattenOperatorChains);
+            parser.setCancellationToken(cancellationToken);
+            parser.removeErrorListeners();
+            parser.setErrorHandler(new BailErrorStrategy());
+            parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+            IslandSqlParser.FileContext file;
+            try {
+                file = parser.file();
+            } catch (ParseCancellationException e) {
+                if (cancellationToken.isTriggered()) {
+                    throw e;
+                }
+                // SLL failed, the script is invalid or requires full LL prediction
+                parser.reset();
+                parser.setErrorHandler(new DefaultErrorStrategy());
+                parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+                parser.addErrorListener(errorListener);
+                file = parser.file();
+            }
+            if (subtrees && errorListener.getSyntaxErrors().isEmpty()) {
+                parser.setErrorHandler(new DefaultErrorStrategy());
+                parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+                parser.removeErrorListeners();
+                parser.addErrorListener(errorListener);
+                parseSubtrees(builder, parser.takeSubtreeCandidates(file), lexer, parser, errorListener, cancellationToken, null);
+            }
+        } catch (ParseCancellationException | StackOverflowError e) {
+            if (errorListener.getSyntaxErrors().isEmpty()) {
+                errorListener.syntaxErrorStop(null, e instanceof StackOverflowError
+                        ? "stack overflow, nesting too deep" : cancellationToken.getMessage());
+            }
+        }
+        return new ValidationResult(errorListener.getSyntaxErrors().isEmpty() ? null : errorListener.getSyntaxErrors().get(0));
+    }
+
     /**
      * Guess the SQL dialect based on the specified SQL.
      *
@@ -87,133 +634,448 @@ public class IslandSqlDocument {
         return sql.contains("\n/\n") ? IslandSqlDialect.ORACLEDB : IslandSqlDialect.GENERIC;
     }
 
+    /**
+     * SQL or PL/pgSQL code provided as string, to be parsed as subtree.
+     */
+    private static final class SubtreeSource {
+        private final IslandSqlParser.StringContext codeAsString;
+        private final boolean sql;
+        private final ParserRuleContext parent;
+        private final Runnable clearCode;
+
+        /**
+         * Constructor.
+         *
+         * @param codeAsString The code to be parsed.
+         * @param sql          Is the code SQL? Otherwise, it is PL/pgSQL.
+         * @param parent       The node in the parse tree which contains codeAsString and the subtree to be created.
+         * @param clearCode    Clears the field referencing codeAsString, called when codeAsString is removed.
+         */
+        SubtreeSource(IslandSqlParser.StringContext codeAsString, boolean sql, ParserRuleContext parent,
+                      Runnable clearCode) {
+            this.codeAsString = codeAsString;
+            this.sql = sql;
+            this.parent = parent;
+            this.clearCode = clearCode;
+        }
+    }
+
+    /**
+     * Subtree produced by a parser running concurrently to other subtree parsers.
+     */
+    private static final class SubtreeResult {
+        private final IslandSqlParserRuleContext subtree;
+        private final List<SyntaxErrorEntry> syntaxErrors;
+        private final long time;
+
+        /**
+         * Constructor.
+         *
+         * @param subtree      The subtree, null if the code has not been parsed completely.
+         * @param syntaxErrors The syntax errors found in the code.
+         * @param time         The number of nanoseconds spent to parse the code.
+         */
+        SubtreeResult(IslandSqlParserRuleContext subtree, List<SyntaxErrorEntry> syntaxErrors, long time) {
+            this.subtree = subtree;
+            this.syntaxErrors = syntaxErrors;
+            this.time = time;
+        }
+    }
+
+    /**
+     * Code to be parsed on first access and the parsers to parse it, see {@link Builder#lazySubtrees(boolean)}.
+     */
+    private static final class LazySubtrees {
+        private final List<LazySubtree> subtrees = new ArrayList<>();
+        private final Queue<IslandSqlParser> parsers = new ConcurrentLinkedQueue<>();
+        private final Runnable onLoad;
+
+        /**
+         * Constructor.
+         *
+         * @param onLoad Called after a subtree has been added to the parse tree.
+         */
+        LazySubtrees(Runnable onLoad) {
+            this.onLoad = onLoad;
+        }
+    }
+
+    /**
+     * Code to be parsed on first access to the node containing the code.
+     * See {@link Builder#lazySubtrees(boolean)}.
+     */
+    private static final class LazySubtree {
+        private final Builder builder;
+        private final SubtreeSource source;
+        private final LazySubtrees lazySubtrees;
+        private volatile List<SyntaxErrorEntry> syntaxErrors;
+
+        /**
+         * Constructor.
+         *
+         * @param builder      The builder with parameters used to build the IslandSqlDocument.
+         * @param source       The code to be parsed.
+         * @param lazySubtrees The container with the idle parsers of the document, reused to keep their prediction caches.
+         */
+        LazySubtree(Builder builder, SubtreeSource source, LazySubtrees lazySubtrees) {
+            this.builder = builder;
+            this.source = source;
+            this.lazySubtrees = lazySubtrees;
+        }
+
+        /**
+         * Parses the code with an idle or a new parser and adds the subtree.
+         * Called once by the node containing the code, see {@link IslandSqlParserRuleContext#loadSubtree()}.
+         * Notifies the container after changing the parse tree.
+         */
+        private void load() {
+            SyntaxErrorListener errorListener = new SyntaxErrorListener(0, builder.lightweightSyntaxErrors);
+            IslandSqlParser parser = lazySubtrees.parsers.poll();
+            if (parser == null) {
+                parser = createSubtreeParser(builder, errorListener, null);
+            }
+            IslandSqlLexer lexer = (IslandSqlLexer) parser.getTokenStream().getTokenSource();
+            lexer.removeErrorListeners();
+            lexer.addErrorListener(errorListener);
+            parser.removeErrorListeners();
+            parser.addErrorListener(errorListener);
+            try {
+                addSubtree(builder, source, parseSubtree(source, lexer, parser));
+            } finally {
+                syntaxErrors = errorListener.getSyntaxErrors();
+                lazySubtrees.parsers.offer(parser);
+                lazySubtrees.onLoad.run();
+            }
+        }
+
+        /**
+         * Gets the syntax errors of the code. Parses the code, if not done yet.
+         *
+         * @return The syntax errors of the code.
+         */
+        private List<SyntaxErrorEntry> getSyntaxErrors() {
+            ((IslandSqlParserRuleContext) source.parent).loadSubtree();
+            return syntaxErrors;
+        }
+    }
+
+    /**
+     * Token stream on a list of tokens produced before. Used by the parsers of function and
+     * procedure definitions, which share a copy of the token list of the main parser.
+     */
+    private static final class SharedTokenStream extends CommonTokenStream {
+        /**
+         * Constructor.
+         *
+         * @param tokenSource The lexer which produced the tokens.
+         * @param tokens All tokens including EOF, not changed while in use.
+         */
+        SharedTokenStream(TokenSource tokenSource, List<Token> tokens) {
+            super(tokenSource);
+            this.tokens = tokens;
+            this.fetchedEOF = true;
+        }
+    }
+
+    /**
+     * Statistics of the subtrees parsed for a parse tree.
+     */
+    private static final class SubtreeStats {
+        private int count;
+        private long time;
+        private long elapsedTime;
+        private int threads = 1;
+    }
+
     /**
      * Finds SQL and PL/pgSQL code in <code>create function</code>, <code>create procedure</code>,
      * and <code>do</code> statements, parses the code and adds the subtrees to the main parse tree.
      * Optionally removes the code as string from the parse tree.
      * Nested, dynamic SQL and PL/pgSQL code is not resolved.
+     * The code is parsed concurrently with a dedicated lexer and parser per subtree, if configured
+     * via {@link Builder#subtreeThreads(int)}. The subtrees are added in the order of the code.
      *
      * @param builder The builder with parameters used to build the IslandSqlDocument
-     * @param file The root object of the main parse tree.
+     * @param candidates The contexts recorded by the main parser, see {@link IslandSqlParserBase#takeSubtreeCandidates}.
      * @param lexer The lexer used to produce the main parse tree.
      * @param parser The parser used to produce the main parse tree.
+     * @param errorListener The error listener used for the main parse tree.
+     * @param cancellationToken The token to stop parsing subtrees, null if parsing cannot be cancelled.
+     * @param lazySubtrees The container to register the code to be parsed on first access, null to parse it immediately.
+     * @return The statistics of the parsed subtrees.
      */
-    private static void parseSubtrees(Builder builder, IslandSqlParser.FileContext file, IslandSqlLexer lexer, IslandSqlParser parser) {
+    private static SubtreeStats parseSubtrees(Builder builder, List<ParserRuleContext> candidates, IslandSqlLexer lexer,
+                                              IslandSqlParser parser, SyntaxErrorListener errorListener,
+                                              CancellationToken cancellationToken, LazySubtrees lazySubtrees) {
+        SubtreeStats stats = new SubtreeStats();
         if (builder.subtrees && (builder.dialect == IslandSqlDialect.POSTGRESQL || builder.dialect == IslandSqlDialect.GENERIC)) {
+            long startTime = System.nanoTime();
             try {
-                List<Class<? extends ParseTree>> desiredTypes = new ArrayList<>();
-                desiredTypes.add(IslandSqlParser.PostgresqlDoContext.class);
-                desiredTypes.add(IslandSqlParser.PostgresqlFunctionSourceContext.class);
-                desiredTypes.add(IslandSqlParser.PostgresqlProcedureSourceContext.class);
-                List<? extends ParseTree> stmts = ParseTreeUtil.getAllContentsOfTypes(file, desiredTypes);
-                for (ParseTree stmt : stmts) {
-                    IslandSqlParser.StringContext codeAsString = null;
-                    IslandSqlParser.ExpressionContext languageName = null;
-                    if (stmt instanceof IslandSqlParser.PostgresqlDoContext) {
-                        // do - SQL and PL/pgSQL: PostgreSQL does not support SQL language as string but the IslandSQL grammar accepts it nonetheless
-                        IslandSqlParser.PostgresqlDoContext doStmt = (IslandSqlParser.PostgresqlDoContext) stmt;
-                        IslandSqlParser.PostgresqlCodeContext code = doStmt.postgresqlCode();
-                        if (code != null && code.elements.size() == 1 && code.elements.get(0) instanceof IslandSqlParser.StringCodeElementContext) {
-                            codeAsString = ((IslandSqlParser.StringCodeElementContext) code.elements.get(0)).string();
-                            languageName = doStmt.languageName;
-                            if (parseSubtree(builder, lexer, parser, codeAsString, languageName, doStmt)) {
-                                doStmt.code = null;
-                            }
-                        }
-                    } else if (stmt instanceof IslandSqlParser.PostgresqlFunctionSourceContext) {
-                        // function - SQL and PL/pgSQL
-                        List<IslandSqlParser.PostgresqlFunctionOptionContext> definitionOptions =
-                                ParseTreeUtil.getAllContentsOfType(stmt, IslandSqlParser.PostgresqlFunctionOptionContext.class).stream()
-                                .filter(it -> it.definition != null).collect(Collectors.toList());
-                        if (!definitionOptions.isEmpty()) {
-                            ParseTree definition = ParseTreeUtil.getMostConcrete(definitionOptions.get(0).definition);
-                            if (definition instanceof IslandSqlParser.StringContext) {
-                                codeAsString = (IslandSqlParser.StringContext) definition;
-                            }
-                            List<IslandSqlParser.PostgresqlFunctionOptionContext> languageOptions =
-                                    ParseTreeUtil.getAllContentsOfType(stmt, IslandSqlParser.PostgresqlFunctionOptionContext.class).stream()
-                                    .filter(it -> it.languageName != null).collect(Collectors.toList());
-                            if (!languageOptions.isEmpty()) {
-                                languageName = languageOptions.get(0).languageName;
-                            }
-                            if (parseSubtree(builder, lexer, parser, codeAsString, languageName, definitionOptions.get(0))) {
-                                definitionOptions.get(0).definition = null;
-                            }
-                        }
-                    } else if (stmt instanceof IslandSqlParser.PostgresqlProcedureSourceContext) {
-                        // procedure - SQL and PL/pgSQL
-                        List<IslandSqlParser.PostgresqlProcedureOptionContext> definitionOptions =
-                                ParseTreeUtil.getAllContentsOfType(stmt, IslandSqlParser.PostgresqlProcedureOptionContext.class).stream()
-                                .filter(it -> it.definition != null).collect(Collectors.toList());
-                        if (!definitionOptions.isEmpty()) {
-                            ParseTree definition = ParseTreeUtil.getMostConcrete(definitionOptions.get(0).definition);
-                            if (ParseTreeUtil.getMostConcrete(definition) instanceof IslandSqlParser.StringContext) {
-                                codeAsString = (IslandSqlParser.StringContext) definition;
-                            }
-                            List<IslandSqlParser.PostgresqlProcedureOptionContext> languageOptions =
-                                    ParseTreeUtil.getAllContentsOfType(stmt, IslandSqlParser.PostgresqlProcedureOptionContext.class).stream()
-                                    .filter(it -> it.languageName != null).collect(Collectors.toList());
-                            if (!languageOptions.isEmpty()) {
-                                languageName = languageOptions.get(0).languageName;
-                            }
-                            if (parseSubtree(builder, lexer, parser, codeAsString, languageName, definitionOptions.get(0))) {
-                                definitionOptions.get(0).definition = null;
-                            }
+                List<SubtreeSource> sources = collectSubtreeSources(candidates);
+                if (lazySubtrees != null) {
+                    for (SubtreeSource source : sources) {
+                        LazySubtree lazySubtree = new LazySubtree(builder, source, lazySubtrees);
+                        ((IslandSqlParserRuleContext) source.parent).setSubtreeLoader(lazySubtree::load);
+                        lazySubtrees.subtrees.add(lazySubtree);
+                    }
+                } else if (builder.subtreeThreads > 1 && sources.size() > 1 && !builder.profile) {
+                    parseSubtreesConcurrently(builder, sources, errorListener, cancellationToken, stats);
+                } else {
+                    for (SubtreeSource source : sources) {
+                        if (cancellationToken != null) {
+                            cancellationToken.check();
                         }
+                        long sourceStartTime = System.nanoTime();
+                        IslandSqlParserRuleContext subtree = parseSubtree(source, lexer, parser);
+                        stats.time += System.nanoTime() - sourceStartTime;
+                        stats.count++;
+                        addSubtree(builder, source, subtree);
                     }
                 }
+            } catch (ParseCancellationException e) {
+                // reported by the caller, keep subtrees produced so far
             } catch (Exception e) {
                 throw new RuntimeException(e);
                 // fail-safe, ignore all exceptions, keep parse-tree as is, proceed without producing subtrees
             }
+            stats.elapsedTime = System.nanoTime() - startTime;
         }
+        return stats;
     }
 
     /**
-     * Parses the code and adds the resulting subtree to the main parse tree.
-     * Optionally removes the code as string from the parse tree.
+     * Finds SQL and PL/pgSQL code in <code>create function</code>, <code>create procedure</code>,
+     * and <code>do</code> statements. Only the options of a function or procedure are examined,
+     * the parse tree is not searched.
      *
-     * @param builder The builder with parameters used to build the IslandSqlDocument.
-     * @param lexer The lexer used to produce the main parse tree.
-     * @param parser The parser used to produce the main parse tree.
-     * @param codeAsString The code to be parsed.
-     * @param languageName The language of the code to be parsed.
-     * @param parent Then node in the parse three which contains codeAsString and the subtree to be created
-     * @return true if the child node containing codeAsString has been removed.
-     */
-    private static boolean parseSubtree(Builder builder, IslandSqlLexer lexer, IslandSqlParser parser,
-                                        IslandSqlParser.StringContext codeAsString,
-                                        IslandSqlParser.ExpressionContext languageName,
-                                        ParserRuleContext parent) {
+     * @param candidates The contexts of <code>do</code> statements and of function and procedure sources.
+     * @return The code to be parsed in the order of appearance.
+     */
+    private static List<SubtreeSource> collectSubtreeSources(List<ParserRuleContext> candidates) {
+        List<SubtreeSource> sources = new ArrayList<>();
+        for (ParserRuleContext stmt : candidates) {
+            IslandSqlParser.StringContext codeAsString = null;
+            IslandSqlParser.ExpressionContext languageName = null;
+            if (stmt instanceof IslandSqlParser.PostgresqlDoContext) {
+                // do - SQL and PL/pgSQL: PostgreSQL does not support SQL language as string but the IslandSQL grammar accepts it nonetheless
+                IslandSqlParser.PostgresqlDoContext doStmt = (IslandSqlParser.PostgresqlDoContext) stmt;
+                IslandSqlParser.PostgresqlCodeContext code = doStmt.postgresqlCode();
+                if (code != null && code.elements.size() == 1 && code.elements.get(0) instanceof IslandSqlParser.StringCodeElementContext) {
+                    codeAsString = ((IslandSqlParser.StringCodeElementContext) code.elements.get(0)).string();
+                    languageName = doStmt.languageName;
+                    addSubtreeSource(sources, codeAsString, languageName, doStmt, () -> doStmt.code = null);
+                }
+            } else if (stmt instanceof IslandSqlParser.PostgresqlFunctionSourceContext) {
+                // function - SQL and PL/pgSQL
+                IslandSqlParser.PostgresqlFunctionOptionContext definitionOption = null;
+                for (IslandSqlParser.PostgresqlFunctionOptionContext option : ((IslandSqlParser.PostgresqlFunctionSourceContext) stmt).postgresqlFunctionOption()) {
+                    if (definitionOption == null && option.definition != null) {
+                        definitionOption = option;
+                    }
+                    if (languageName == null && option.languageName != null) {
+                        languageName = option.languageName;
+                    }
+                }
+                if (definitionOption != null) {
+                    ParseTree definition = ParseTreeUtil.getMostConcrete(definitionOption.definition);
+                    if (definition instanceof IslandSqlParser.StringContext) {
+                        codeAsString = (IslandSqlParser.StringContext) definition;
+                    }
+                    IslandSqlParser.PostgresqlFunctionOptionContext option = definitionOption;
+                    addSubtreeSource(sources, codeAsString, languageName, option, () -> option.definition = null);
+                }
+            } else if (stmt instanceof IslandSqlParser.PostgresqlProcedureSourceContext) {
+                // procedure - SQL and PL/pgSQL
+                IslandSqlParser.PostgresqlProcedureOptionContext definitionOption = null;
+                for (IslandSqlParser.PostgresqlProcedureOptionContext option : ((IslandSqlParser.PostgresqlProcedureSourceContext) stmt).postgresqlProcedureOption()) {
+                    if (definitionOption == null && option.definition != null) {
+                        definitionOption = option;
+                    }
+                    if (languageName == null && option.languageName != null) {
+                        languageName = option.languageName;
+                    }
+                }
+                if (definitionOption != null) {
+                    ParseTree definition = ParseTreeUtil.getMostConcrete(definitionOption.definition);
+                    if (definition instanceof IslandSqlParser.StringContext) {
+                        codeAsString = (IslandSqlParser.StringContext) definition;
+                    }
+                    IslandSqlParser.PostgresqlProcedureOptionContext option = definitionOption;
+                    addSubtreeSource(sources, codeAsString, languageName, option, () -> option.definition = null);
+                }
+            }
+        }
+        return sources;
+    }
+
+    /**
+     * Adds the code to the list of code to be parsed, if it is SQL or PL/pgSQL code provided as string.
+     *
+     * @param sources The list of code to be parsed.
+     * @param codeAsString The code, null if the code is not provided as string.
+     * @param languageName The language of the code.
+     * @param parent The node in the parse tree which contains codeAsString and the subtree to be created.
+     * @param clearCode Clears the field referencing codeAsString, called when codeAsString is removed.
+     */
+    private static void addSubtreeSource(List<SubtreeSource> sources, IslandSqlParser.StringContext codeAsString,
+                                         IslandSqlParser.ExpressionContext languageName, ParserRuleContext parent,
+                                         Runnable clearCode) {
         String language = ConverterUtil.fromLanguage(languageName);
         if (codeAsString != null && (language.equals("sql") || language.equals("plpgsql"))) {
-            CodePointCharStream charStream = CharStreams.fromString(ConverterUtil.fromString(codeAsString));
-            lexer.setInputStream(charStream);
-            // match original character stream, is accurate if a single string segment is used in codeAsString without escaped characters.
-            lexer.setLine(codeAsString.start.getLine());
-            lexer.setCharPositionInLine(codeAsString.start.getCharPositionInLine() + ConverterUtil.startOffsetFromString(codeAsString));
-            CommonTokenStream tokenStream = new CommonTokenStream(lexer);
-            parser.setTokenStream(tokenStream);
-            IslandSqlParserRuleContext codeSubtree = language.equals("sql") ? parser.postgresqlSqlCode() : parser.postgresqlPlpgsqlCode();
-            codeSubtree.setTokenStream(tokenStream);
-            if (codeSubtree.children.size() > 1) {
-                if (codeSubtree.children.get(codeSubtree.children.size() - 1).getText().equals("<EOF>")) {
-                    codeSubtree.removeLastChild();
-                }
-                codeSubtree.parent = parent;
-                parent.children.add(codeSubtree);
-                if (builder.removeCode) {
-                    for (int i = parent.children.size() - 1; i > 0; i--) {
-                        if (parent.children.get(i) == codeAsString
-                                || ParseTreeUtil.getAllContentsOfType(parent.children.get(i), codeAsString.getClass()).stream().filter(it -> it == codeAsString).count() == 1) {
-                            parent.children.remove(i);
-                            return true;
-                        }
+            sources.add(new SubtreeSource(codeAsString, language.equals("sql"), parent, clearCode));
+        }
+    }
+
+    /**
+     * Parses code concurrently, each with a dedicated lexer and parser.
+     * The threads use the configured stack size. The subtrees and their syntax errors
+     * are added in the order of the code, when all code has been parsed.
+     *
+     * @param builder The builder with parameters used to build the IslandSqlDocument.
+     * @param sources The code to be parsed.
+     * @param errorListener The error listener used for the main parse tree.
+     * @param cancellationToken The token to stop parsing subtrees, null if parsing cannot be cancelled.
+     * @param stats The statistics to be populated.
+     * @throws InterruptedException when the calling thread is interrupted while waiting for the subtrees.
+     */
+    private static void parseSubtreesConcurrently(Builder builder, List<SubtreeSource> sources,
+                                                  SyntaxErrorListener errorListener,
+                                                  CancellationToken cancellationToken,
+                                                  SubtreeStats stats) throws InterruptedException {
+        int threads = Math.min(builder.subtreeThreads, sources.size());
+        ExecutorService executor = Executors.newFixedThreadPool(threads, task -> {
+            Thread thread = new Thread(null, task, "IslandSqlSubtree", builder.stackSize);
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<SubtreeResult>> futures = new ArrayList<>();
+            for (SubtreeSource source : sources) {
+                futures.add(executor.submit(() -> {
+                    long startTime = System.nanoTime();
+                    SyntaxErrorListener subtreeErrorListener = new SyntaxErrorListener(0, builder.lightweightSyntaxErrors);
+                    IslandSqlParser subtreeParser = createSubtreeParser(builder, subtreeErrorListener, cancellationToken);
+                    IslandSqlLexer subtreeLexer = (IslandSqlLexer) subtreeParser.getTokenStream().getTokenSource();
+                    IslandSqlParserRuleContext subtree = cancellationToken != null && cancellationToken.isTriggered()
+                            ? null : parseSubtree(source, subtreeLexer, subtreeParser);
+                    return new SubtreeResult(subtree, subtreeErrorListener.getSyntaxErrors(), System.nanoTime() - startTime);
+                }));
+            }
+            stats.threads = threads;
+            for (int i = 0; i < sources.size(); i++) {
+                SubtreeResult result;
+                try {
+                    result = futures.get(i).get();
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof RuntimeException) {
+                        throw (RuntimeException) e.getCause();
+                    } else if (e.getCause() instanceof Error) {
+                        throw (Error) e.getCause();
                     }
+                    throw new RuntimeException(e.getCause());
+                }
+                errorListener.addSyntaxErrors(result.syntaxErrors);
+                stats.time += result.time;
+                stats.count++;
+                addSubtree(builder, sources.get(i), result.subtree);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Creates a lexer and a parser to parse code provided as string, independent of the main parser.
+     *
+     * @param builder The builder with parameters used to build the IslandSqlDocument.
+     * @param errorListener The error listener to be used.
+     * @param cancellationToken The token to stop parsing, null if parsing cannot be cancelled.
+     * @return The parser, the token source of its token stream is the lexer.
+     */
+    private static IslandSqlParser createSubtreeParser(Builder builder, SyntaxErrorListener errorListener,
+                                                       CancellationToken cancellationToken) {
+        IslandSqlLexer subtreeLexer = IslandSqlLexerBase.createLexer(CharStreams.fromString(""), builder.dialect);
+        subtreeLexer.setCancellationToken(cancellationToken);
+        subtreeLexer.removeErrorListeners();
+        subtreeLexer.addErrorListener(errorListener);
+        IslandSqlParser subtreeParser = new IslandSqlParser(new CommonTokenStream(subtreeLexer));
+        subtreeParser.setDialect(builder.dialect);
+        subtreeParser.setMaxDepth(builder.maxDepth);
+        subtreeParser.setFlattenOperatorChains(builder.flattenOperatorChains);
+        subtreeParser.setCancellationToken(cancellationToken);
+        subtreeParser.removeErrorListeners();
+        subtreeParser.addErrorListener(errorListener);
+        return subtreeParser;
+    }
+
+    /**
+     * Parses code provided as string.
+     *
+     * @param source The code to be parsed.
+     * @param lexer The lexer to be used.
+     * @param parser The parser to be used.
+     * @return The subtree, null if the code has not been parsed completely or is empty.
+     */
+    private static IslandSqlParserRuleContext parseSubtree(SubtreeSource source, IslandSqlLexer lexer,
+                                                           IslandSqlParser parser) {
+        IslandSqlParser.StringContext codeAsString = source.codeAsString;
+        CodePointCharStream charStream = CharStreams.fromString(ConverterUtil.fromString(codeAsString));
+        lexer.setInputStream(charStream);
+        // match original character stream, is accurate if a single string segment is used in codeAsString without escaped characters.
+        lexer.setLine(codeAsString.start.getLine());
+        lexer.setCharPositionInLine(codeAsString.start.getCharPositionInLine() + ConverterUtil.startOffsetFromString(codeAsString));
+        CommonTokenStream tokenStream = new CommonTokenStream(lexer);
+        parser.setTokenStream(tokenStream);
+        IslandSqlParserRuleContext codeSubtree;
+        try {
+            codeSubtree = source.sql ? parser.postgresqlSqlCode() : parser.postgresqlPlpgsqlCode();
+        } catch (ParseCancellationException | StackOverflowError e) {
+            if (e instanceof StackOverflowError) {
+                parser.notifyErrorListeners(parser.getCurrentToken(), "stack overflow, nesting too deep", null);
+            }
+            // keep code as string, do not add a partial subtree
+            return null;
+        }
+        codeSubtree.setTokenStream(tokenStream);
+        if (codeSubtree.children.size() > 1) {
+            if (codeSubtree.children.get(codeSubtree.children.size() - 1).getText().equals("<EOF>")) {
+                codeSubtree.removeLastChild();
+            }
+            return codeSubtree;
+        }
+        return null;
+    }
+
+    /**
+     * Adds a subtree to the main parse tree.
+     * Optionally removes the code as string from the parse tree.
+     *
+     * @param builder The builder with parameters used to build the IslandSqlDocument.
+     * @param source The parsed code.
+     * @param codeSubtree The subtree to be added, null if there is nothing to add.
+     */
+    private static void addSubtree(Builder builder, SubtreeSource source, IslandSqlParserRuleContext codeSubtree) {
+        if (codeSubtree == null) {
+            return;
+        }
+        ParserRuleContext parent = source.parent;
+        IslandSqlParser.StringContext codeAsString = source.codeAsString;
+        codeSubtree.parent = parent;
+        parent.children.add(codeSubtree);
+        if (builder.removeCode) {
+            // the child of parent containing codeAsString
+            ParserRuleContext child = codeAsString;
+            while (child != null && child.getParent() != parent) {
+                child = child.getParent();
+            }
+            for (int i = parent.children.size() - 1; i > 0; i--) {
+                if (parent.children.get(i) == child) {
+                    parent.children.remove(i);
+                    source.clearCode.run();
+                    return;
                 }
             }
         }
-        return false;
     }
 
     /**
@@ -226,6 +1088,22 @@ public class IslandSqlDocument {
         private boolean profile = false;
         private boolean subtrees = true;
         private boolean removeCode = false;
+        private int subtreeThreads = 1;
+        private boolean lazySubtrees = false;
+        private int subprogramThreads = 1;
+        private int maxDepth = 0;
+        private long stackSize = 0;
+        private Duration deadline = null;
+        private CancellationToken cancellationToken = null;
+        private int maxStatementTokens = 0;
+        private int maxStatementNodes = 0;
+        private int maxStatementLookahead = 0;
+        private boolean statementRecovery = true;
+        private int maxSyntaxErrors = 0;
+        private boolean lightweightSyntaxErrors = false;
+        private StatementHandler statementHandler = null;
+        private boolean flattenOperatorChains = false;
+        private boolean compactLiteralLists = false;
 
         /**
          * Sets the SQL script to be parsed as string.
@@ -306,6 +1184,265 @@ public class IslandSqlDocument {
             return this;
         }
 
+        /**
+         * Sets the number of threads to parse code provided as string concurrently.
+         * Default is 1, this means the code is parsed sequentially with the lexer and parser
+         * of the main parse tree. With more threads, every code is parsed with a dedicated
+         * lexer and parser. The subtrees and their syntax errors are added in the order
+         * of the code, the resulting parse tree is the same. Code is parsed sequentially
+         * when profiling is enabled.
+         * This option has no effect if {@link #subtrees subtrees} is set to false.
+         *
+         * @param subtreeThreads The number of threads to parse subtrees.
+         * @return The builder instance.
+         */
+        public Builder subtreeThreads(int subtreeThreads) {
+            this.subtreeThreads = subtreeThreads;
+            return this;
+        }
+
+        /**
+         * Sets the flag to parse code provided as string on first access.
+         * Default is false, this means the code is parsed when building the document.
+         * When set, the code is parsed with a dedicated lexer and parser and the subtree is added
+         * when the children of the node containing the code are accessed for the first time,
+         * e.g. via getChild, getChildCount or a query such as getAllContentsOfType.
+         * Concurrent accesses parse the code once. Direct accesses to the children field and to label fields
+         * such as {@link IslandSqlParser.PostgresqlFunctionOptionContext#definition} do not parse the code.
+         * When {@link #removeCode removeCode} is set, such a label field changes from the code as string
+         * to null when the subtree is added on first access.
+         * {@link IslandSqlDocument#getSyntaxErrors()} parses all pending code to report the syntax errors in the order of the code,
+         * the maximum number of syntax errors applies to the combined list.
+         * Lazy subtrees are not included in the parser metrics. Code is parsed immediately
+         * when profiling is enabled.
+         * This option has no effect if {@link #subtrees subtrees} is set to false.
+         *
+         * @param lazySubtrees Parse code provided as string on first access?
+         * @return The builder instance.
+         */
+        public Builder lazySubtrees(boolean lazySubtrees) {
+            this.lazySubtrees = lazySubtrees;
+            return this;
+        }
+
+        /**
+         * Sets the number of threads to parse the function and procedure definitions of package bodies concurrently.
+         * Default is 1, this means package bodies are parsed sequentially. With more threads, the definitions at the
+         * top level of a package body are found by a token scan and parsed concurrently, each with a dedicated parser.
+         * The main parser then takes the parse trees of the definitions instead of parsing them. The resulting parse
+         * tree is the same. A definition with a syntax error is parsed by the main parser. If a syntax error of the main
+         * parser involves a definition parsed in advance, only this definition is parsed again by the main parser to
+         * report the syntax errors as usual.
+         * Package bodies are parsed sequentially when {@link #hideOutOfScopeTokens hideOutOfScopeTokens} is set to false,
+         * when profiling is enabled, or when a maximum nesting depth, a maximum number of statement nodes,
+         * a maximum statement lookahead or a statement handler is set.
+         *
+         * @param subprogramThreads The number of threads to parse function and procedure definitions.
+         * @return The builder instance.
+         */
+        public Builder subprogramThreads(int subprogramThreads) {
+            this.subprogramThreads = subprogramThreads;
+            return this;
+        }
+
+        /**
+         * Sets the maximum nesting depth of parser rule invocations.
+         * Default is 0, this means the nesting depth is not limited.
+         * When the limit is exceeded, parsing stops, a syntax error is reported
+         * and the partial parse tree is returned.
+         *
+         * @param maxDepth The maximum nesting depth, 0 for unlimited.
+         * @return The builder instance.
+         */
+        public Builder maxDepth(int maxDepth) {
+            this.maxDepth = Math.max(maxDepth, 0);
+            return this;
+        }
+
+        /**
+         * Sets the stack size in bytes of a dedicated thread used for lexing and parsing.
+         * Default is 0, this means the calling thread is used.
+         * A large stack allows to parse deeply nested SQL such as generated
+         * expressions with thousands of concatenations.
+         *
+         * @param stackSize The stack size in bytes, 0 to use the calling thread.
+         * @return The builder instance.
+         */
+        public Builder stackSize(long stackSize) {
+            this.stackSize = Math.max(stackSize, 0);
+            return this;
+        }
+
+        /**
+         * Sets the maximum duration for lexing and parsing, measured from the start of the build.
+         * Default is null, this means the duration is not limited.
+         * When the deadline is exceeded, lexing and parsing stop, a syntax error is reported
+         * and the partial parse tree is returned.
+         *
+         * @param deadline The maximum duration, null for unlimited.
+         * @return The builder instance.
+         */
+        public Builder deadline(Duration deadline) {
+            this.deadline = deadline;
+            return this;
+        }
+
+        /**
+         * Sets the token to cancel lexing and parsing from another thread.
+         * Default is null, this means the build cannot be cancelled.
+         * When the token is cancelled, lexing and parsing stop, a syntax error is reported
+         * and the partial parse tree is returned.
+         * The token is not changed by the build, a {@link #deadline deadline} applies to this build only.
+         *
+         * @param cancellationToken The cancellation token.
+         * @return The builder instance.
+         */
+        public Builder cancellationToken(CancellationToken cancellationToken) {
+            this.cancellationToken = cancellationToken;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of tokens of a statement, including hidden tokens.
+         * Default is 0, this means the number of tokens is not limited.
+         * A statement exceeding the budget is added as {@link ShallowStatementContext}
+         * without parsing it and parsing continues with the next statement. No syntax error is reported,
+         * {@link ShallowStatementContext#getReason()} provides the exceeded budget.
+         *
+         * @param maxStatementTokens The maximum number of tokens per statement, 0 for unlimited.
+         * @return The builder instance.
+         */
+        public Builder maxStatementTokens(int maxStatementTokens) {
+            this.maxStatementTokens = Math.max(maxStatementTokens, 0);
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of rule nodes in the parse tree of a statement.
+         * Default is 0, this means the number of nodes is not limited.
+         * A statement exceeding the budget is added as {@link ShallowStatementContext}
+         * without parsing it and parsing continues with the next statement. No syntax error is reported,
+         * {@link ShallowStatementContext#getReason()} provides the exceeded budget.
+         *
+         * @param maxStatementNodes The maximum number of rule nodes per statement, 0 for unlimited.
+         * @return The builder instance.
+         */
+        public Builder maxStatementNodes(int maxStatementNodes) {
+            this.maxStatementNodes = Math.max(maxStatementNodes, 0);
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of tokens examined by a single prediction in a statement.
+         * Default is 0, this means the lookahead is not limited. Not applied when profiling is enabled.
+         * A statement exceeding the budget is added as {@link ShallowStatementContext}
+         * without parsing it and parsing continues with the next statement. No syntax error is reported,
+         * {@link ShallowStatementContext#getReason()} provides the exceeded budget.
+         *
+         * @param maxStatementLookahead The maximum lookahead per prediction, 0 for unlimited.
+         * @return The builder instance.
+         */
+        public Builder maxStatementLookahead(int maxStatementLookahead) {
+            this.maxStatementLookahead = Math.max(maxStatementLookahead, 0);
+            return this;
+        }
+
+        /**
+         * Sets the flag to resynchronize on the next statement after a syntax error.
+         * Default is true, this means that after an unrecoverable syntax error the
+         * remaining tokens of the statement are skipped and parsing resumes with the next statement,
+         * as identified by the scope lexer. This avoids cascades of follow-on errors.
+         * This flag has no effect if {@link #hideOutOfScopeTokens hideOutOfScopeTokens} is set to false.
+         *
+         * @param statementRecovery Resume parsing at the next statement after a syntax error?
+         * @return The builder instance.
+         */
+        public Builder statementRecovery(boolean statementRecovery) {
+            this.statementRecovery = statementRecovery;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of syntax errors.
+         * Default is 0, this means the number of syntax errors is not limited.
+         * When the limit is reached, lexing and parsing stop, a final syntax error is reported
+         * and the partial parse tree is returned.
+         *
+         * @param maxSyntaxErrors The maximum number of syntax errors, 0 for unlimited.
+         * @return The builder instance.
+         */
+        public Builder maxSyntaxErrors(int maxSyntaxErrors) {
+            this.maxSyntaxErrors = Math.max(maxSyntaxErrors, 0);
+            return this;
+        }
+
+        /**
+         * Sets the flag to collect lightweight syntax errors.
+         * Default is false, this means a syntax error references the offending token and the exception.
+         * Both reference the lexer or parser state and the input stream. A lightweight syntax error
+         * stores only offset, line, column, message and token type. This reduces the memory
+         * retained by documents with syntax errors.
+         *
+         * @param lightweightSyntaxErrors Collect lightweight syntax errors?
+         * @return The builder instance.
+         */
+        public Builder lightweightSyntaxErrors(boolean lightweightSyntaxErrors) {
+            this.lightweightSyntaxErrors = lightweightSyntaxErrors;
+            return this;
+        }
+
+        /**
+         * Sets the handler to process top-level statements while parsing.
+         * Default is null, this means all statements are kept in the parse tree.
+         * The handler is called for every completed statement including its subtrees.
+         * Afterwards the statement is removed from the parse tree. As a result only the parse trees of completed
+         * statements are released, and {@link IslandSqlDocument#getFile() getFile} returns a file without completed
+         * statements. The token stream keeps all tokens of the script, hence the memory consumption still grows
+         * with the size of the script.
+         * Statements which are not completed, see {@link StatementHandler}, are kept in the parse tree.
+         *
+         * @param statementHandler The handler to be called for every top-level statement.
+         * @return The builder instance.
+         */
+        public Builder statementHandler(StatementHandler statementHandler) {
+            this.statementHandler = statementHandler;
+            return this;
+        }
+
+        /**
+         * Sets the flag to flatten chains of the same binary operator in expressions.
+         * Default is false, this means every operator produces a nested expression, e.g.
+         * <code>a + b + c</code> produces an addition with another addition as left operand.
+         * When set, <code>a + b + c</code> produces a single addition with all operands and operators
+         * as children. The operators are left-associative, the semantics are the same.
+         * Applies to addition, substraction, multiplication, division, modulo, concatenation
+         * and logical conditions. The nesting depth of the parse tree does not grow with
+         * the length of a chain and parsing of long chains is faster.
+         *
+         * @param flattenOperatorChains Flatten chains of the same binary operator?
+         * @return The builder instance.
+         */
+        public Builder flattenOperatorChains(boolean flattenOperatorChains) {
+            this.flattenOperatorChains = flattenOperatorChains;
+            return this;
+        }
+
+        /**
+         * Sets the flag to compact lists of literals after IN and VALUES.
+         * Default is false, this means every literal produces an expression.
+         * When set, <code>values (1, 'a', null)</code> produces a single literalListExpression
+         * with a {@link LiteralListToken} providing the number of literals and their values.
+         * The other tokens of the list are hidden. Reduces runtime and memory of scripts
+         * with bulk data, e.g. many insert statements or large in lists.
+         *
+         * @param compactLiteralLists Compact lists of literals?
+         * @return The builder instance.
+         */
+        public Builder compactLiteralLists(boolean compactLiteralLists) {
+            this.compactLiteralLists = compactLiteralLists;
+            return this;
+        }
+
         /**
          * Builds and returns an IslandSqlDocument instance.
          *
@@ -313,7 +1450,58 @@ public class IslandSqlDocument {
          */
         public IslandSqlDocument build() {
             this.dialect = dialect == null ? guessDialect(this.sql) : dialect;
-            return new IslandSqlDocument(this);
+            return run(() -> new IslandSqlDocument(this));
+        }
+
+        /**
+         * Validates the syntax of the SQL script without building an IslandSqlDocument instance.
+         * Much faster than {@link #build()} and uses less memory, since no parse tree is kept.
+         * Stops at the first syntax error. Considers all options except profile, removeCode,
+         * statement budgets, statementRecovery and the options for syntax errors.
+         * Set {@link #subtrees subtrees} to false to skip the validation of code provided as string.
+         *
+         * @return The validation result.
+         */
+        public ValidationResult validate() {
+            this.dialect = dialect == null ? guessDialect(this.sql) : dialect;
+            return run(() -> IslandSqlDocument.validate(this));
+        }
+
+        /**
+         * Runs the task in the calling thread or in a dedicated thread with the configured stack size.
+         *
+         * @param task The task to be executed.
+         * @param <T>  The return type of the task.
+         * @return The result of the task.
+         */
+        private <T> T run(Supplier<T> task) {
+            if (stackSize == 0) {
+                return task.get();
+            }
+            List<T> result = new ArrayList<>();
+            Throwable[] failure = new Throwable[1];
+            Thread thread = new Thread(null, () -> {
+                try {
+                    result.add(task.get());
+                } catch (Throwable t) {
+                    failure[0] = t;
+                }
+            }, "IslandSqlDocument", stackSize);
+            thread.start();
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            }
+            if (failure[0] instanceof RuntimeException) {
+                throw (RuntimeException) failure[0];
+            } else if (failure[0] instanceof Error) {
+                throw (Error) failure[0];
+            } else if (failure[0] != null) {
+                throw new RuntimeException(failure[0]);
+            }
+            return result.get(0);
         }
     }
 
@@ -350,6 +1538,16 @@ public class IslandSqlDocument {
         return new Builder().sql(sql).hideOutOfScopeTokens(hideOutOfScopeTokens).dialect(dialect).build();
     }
 
+    /**
+     * Validates the syntax of a SQL script without subtrees.
+     *
+     * @param sql SQL-script as string.
+     * @return The validation result with the first syntax error, if any.
+     */
+    public static ValidationResult validate(String sql) {
+        return new Builder().sql(sql).subtrees(false).validate();
+    }
+
     /**
      * Returns the SQL dialect used to parse the document.
      *
@@ -381,23 +1579,122 @@ public class IslandSqlDocument {
     /**
      * Gets all nodes that are instances of a desired class.
      * Start node is file.
+     * Uses the index, see {@link #getIndex()}.
      *
      * @param desiredType Desired class (must be a descendant of ParseTree).
      * @param <T>         The return type of the result.
      * @return List of nodes that are instances of the of desired class.
      */
     public <T extends ParseTree> List<T> getAllContentsOfType(Class<T> desiredType) {
-        return ParseTreeUtil.getAllContentsOfType(file, desiredType);
+        return getIndex().getAllContentsOfType(desiredType);
+    }
+
+    /**
+     * Gets all nodes that are instances of a desired class.
+     * Start node can be any node in the parse tree of this document.
+     * Uses the index, see {@link #getIndex()}.
+     *
+     * @param parseTree   Start node.
+     * @param desiredType Desired class (must be a descendant of ParseTree).
+     * @param <T>         The return type of the result.
+     * @return List of nodes that are instances of the of desired class.
+     */
+    public <T extends ParseTree> List<T> getAllContentsOfType(ParseTree parseTree, Class<T> desiredType) {
+        return getIndex().getAllContentsOfType(parseTree, desiredType);
+    }
+
+    /**
+     * Gets all nodes that are instances of the list of desired classes.
+     * Start node can be any node in the parse tree of this document.
+     * Uses the index, see {@link #getIndex()}.
+     *
+     * @param parseTree    Start node.
+     * @param desiredTypes Desired classes (must be descendants of ParseTree).
+     * @return List of nodes that are instances of the of desired classes.
+     */
+    public List<? extends ParseTree> getAllContentsOfTypes(ParseTree parseTree, List<Class<? extends ParseTree>> desiredTypes) {
+        return getIndex().getAllContentsOfTypes(parseTree, desiredTypes);
+    }
+
+    /**
+     * Gets a sequential stream of all nodes that are instances of a desired class.
+     * Start node is file. The parse tree is traversed lazily without using the index.
+     * This is efficient for short-circuiting operations such as findFirst or anyMatch.
+     *
+     * @param desiredType Desired class (must be a descendant of ParseTree).
+     * @param <T>         The return type of the result.
+     * @return Stream of nodes that are instances of the desired class.
+     */
+    public <T extends ParseTree> Stream<T> streamContentsOfType(Class<T> desiredType) {
+        return ParseTreeUtil.streamContentsOfType(file, desiredType);
+    }
+
+    /**
+     * Gets the index of all nodes in the parse tree.
+     * The index is built on first access and reused for subsequent queries.
+     * Changes of the parse tree made by this document, such as adding subtrees on
+     * first access, discard the index. Changes made by the caller require a call
+     * of {@link #invalidateIndex()}.
+     *
+     * @return The index of all nodes in the parse tree.
+     */
+    public ParseTreeIndex getIndex() {
+        ParseTreeIndex result = index;
+        if (result == null) {
+            synchronized (this) {
+                result = index;
+                if (result == null) {
+                    result = new ParseTreeIndex(file);
+                    index = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Discards the index of all nodes in the parse tree.
+     * Must be called after changing the parse tree. The index is rebuilt on next access.
+     */
+    public void invalidateIndex() {
+        index = null;
+    }
+
+    /**
+     * Gets the start positions of the statements found by the scope lexer.
+     *
+     * @return The statement boundaries, null if built without hideOutOfScopeTokens.
+     */
+    public StatementBoundaries getStatementBoundaries() {
+        return statementBoundaries;
     }
 
     /**
      * Gets all syntax error entries for the document.
      * The list is empty, if no syntax errors are found.
+     * Parses pending code provided as string, see {@link Builder#lazySubtrees(boolean)}.
      *
      * @return Returns a list of syntax errors.
      */
     public List<SyntaxErrorEntry> getSyntaxErrors() {
-        return syntaxErrors;
+        if (lazySubtrees.subtrees.isEmpty()) {
+            return syntaxErrors;
+        }
+        List<SyntaxErrorEntry> result = new ArrayList<>(syntaxErrors);
+        for (LazySubtree lazySubtree : lazySubtrees.subtrees) {
+            result.addAll(lazySubtree.getSyntaxErrors());
+        }
+        if (maxSyntaxErrors > 0 && result.size() > maxSyntaxErrors) {
+            // same as parsing the code immediately, the errors exceeding the limit are replaced by a stop message
+            CancellationToken cancellationToken = new CancellationToken();
+            SyntaxErrorListener errorListener = new SyntaxErrorListener(maxSyntaxErrors, false);
+            errorListener.setCancellationToken(cancellationToken);
+            errorListener.addSyntaxErrors(result);
+            List<Token> tokens = getTokenStream().getTokens();
+            errorListener.syntaxErrorStop(tokens.isEmpty() ? null : tokens.get(tokens.size() - 1), cancellationToken.getMessage());
+            return errorListener.getSyntaxErrors();
+        }
+        return result;
     }
 
     /**
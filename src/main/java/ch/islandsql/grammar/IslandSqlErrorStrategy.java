@@ -0,0 +1,94 @@
+/*
+ * Copyright 2026 Philipp Salvisberg <philipp.salvisberg@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.islandsql.grammar;
+
+import ch.islandsql.grammar.util.StatementBoundaries;
+import org.antlr.v4.runtime.DefaultErrorStrategy;
+import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.RecognitionException;
+import org.antlr.v4.runtime.RuleContext;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenStream;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+
+/**
+ * Error strategy resynchronizing on statement boundaries found by the IslandSqlScopeLexer.
+ * On an unrecoverable error in a top-level statement, all tokens up to the start of the next
+ * statement are consumed and the statement is abandoned with a {@link StatementRecoveryException}.
+ * The caller resumes parsing with the next statement. This avoids cascades of follow-on errors.
+ * Falls back to the default strategy when the statement boundaries are unknown
+ * or the error does not occur in a top-level statement, e.g. in subtrees.
+ */
+public class IslandSqlErrorStrategy extends DefaultErrorStrategy {
+
+    /**
+     * Recovers from an unrecoverable error by skipping to the next statement.
+     *
+     * @param recognizer The parser instance.
+     * @param e          The recognition exception to recover from.
+     */
+    @Override
+    public void recover(Parser recognizer, RecognitionException e) {
+        StatementBoundaries boundaries = ((IslandSqlParserBase) recognizer).getStatementBoundaries();
+        RuleContext statement = boundaries == null ? null : getTopLevelStatement(recognizer.getContext());
+        if (statement == null) {
+            super.recover(recognizer, e);
+            return;
+        }
+        TokenStream input = recognizer.getInputStream();
+        int index = input.index();
+        // resume at the current token if it starts another statement, e.g. after a missing semicolon
+        boolean resumeHere = boundaries.isStart(index) && index > ((ParserRuleContext) statement).start.getTokenIndex();
+        int resumeIndex = resumeHere ? index : boundaries.getNextStartTokenIndex(index);
+        while (input.LA(1) != Token.EOF && (resumeIndex < 0 || input.index() < resumeIndex)) {
+            recognizer.consume();
+        }
+        throw new StatementRecoveryException("resynchronized at token " + input.index());
+    }
+
+    /**
+     * Gets the statement that is a direct child of file and contains the context.
+     *
+     * @param ctx The current context of the parser.
+     * @return The top-level statement, null if the context is not part of a top-level statement.
+     */
+    private static RuleContext getTopLevelStatement(RuleContext ctx) {
+        RuleContext current = ctx;
+        while (current != null && !(current.parent instanceof IslandSqlParser.FileContext)) {
+            current = current.parent;
+        }
+        return current instanceof IslandSqlParser.StatementContext ? current : null;
+    }
+
+    /**
+     * Thrown to abandon a top-level statement after skipping to the next statement.
+     * The parser is positioned at the first token of the next statement or at EOF.
+     */
+    public static class StatementRecoveryException extends ParseCancellationException {
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Constructor.
+         *
+         * @param message The position where parsing can be resumed.
+         */
+        public StatementRecoveryException(String message) {
+            super(message);
+        }
+    }
+}
@@ -16,11 +16,14 @@
 
 package ch.islandsql.grammar;
 
+import ch.islandsql.grammar.util.CancellationToken;
 import org.antlr.v4.runtime.CharStream;
 import org.antlr.v4.runtime.IntStream;
 import org.antlr.v4.runtime.Lexer;
 import org.antlr.v4.runtime.Token;
-import org.antlr.v4.runtime.misc.Interval;
+
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Base class for IslandSqlLexer class generated by ANTLR.
@@ -30,9 +33,13 @@ public abstract class IslandSqlLexerBase extends Lexer {
     private final boolean scopeLexer;
     private IslandSqlDialect dialect = IslandSqlDialect.GENERIC;
     private Token lastToken; // last emitted token relevant to determine start of statement
-    private String quoteDelimiter1;
-    private String dollarIdentifier1;
+    private int quoteDelimiter1 = -1;
+    private int dollarIdentifier1Start = -1; // -1 if no dollar identifier is saved
+    private int dollarIdentifier1Length = 0;
     private int lastDollarIdentifierIndex = -1;
+    private CancellationToken cancellationToken;
+    private final List<Integer> statementStartIndexes = new ArrayList<>();
+    private final List<Integer> statementKinds = new ArrayList<>();
 
     /**
      * Constructor.
@@ -41,11 +48,43 @@ public abstract class IslandSqlLexerBase extends Lexer {
      */
     public IslandSqlLexerBase(CharStream input) {
         super(input);
-        this.scopeLexer = this.getClass().getCanonicalName().equals("ch.islandsql.grammar.IslandSqlScopeLexer");
+        this.scopeLexer = this instanceof IslandSqlScopeLexer;
+    }
+
+    /**
+     * Creates a lexer for a SQL dialect. Comments and hints are dialect-specific.
+     * They are handled by IslandSqlOracleLexer for ORACLEDB and by IslandSqlLexer otherwise.
+     *
+     * @param input   A character stream.
+     * @param dialect The SQL dialect to be used.
+     * @return The lexer for the dialect.
+     */
+    public static IslandSqlLexer createLexer(CharStream input, IslandSqlDialect dialect) {
+        IslandSqlLexer lexer = dialect == IslandSqlDialect.ORACLEDB
+                ? new IslandSqlOracleLexer(input) : new IslandSqlLexer(input);
+        lexer.setDialect(dialect);
+        return lexer;
+    }
+
+    /**
+     * Creates a scope lexer for a SQL dialect. Comments are dialect-specific.
+     * They are handled by IslandSqlOracleScopeLexer for ORACLEDB and by IslandSqlScopeLexer otherwise.
+     *
+     * @param input   A character stream.
+     * @param dialect The SQL dialect to be used.
+     * @return The scope lexer for the dialect.
+     */
+    public static IslandSqlScopeLexer createScopeLexer(CharStream input, IslandSqlDialect dialect) {
+        IslandSqlScopeLexer lexer = dialect == IslandSqlDialect.ORACLEDB
+                ? new IslandSqlOracleScopeLexer(input) : new IslandSqlScopeLexer(input);
+        lexer.setDialect(dialect);
+        return lexer;
     }
 
     /**
-     * Set the SQL dialect.
+     * Set the SQL dialect. Use {@link #createLexer(CharStream, IslandSqlDialect)} or
+     * {@link #createScopeLexer(CharStream, IslandSqlDialect)} to get the lexer handling
+     * comments and hints of the dialect.
      *
      * @param dialect The SQL dialect to be used.
      */
@@ -53,6 +92,73 @@ public abstract class IslandSqlLexerBase extends Lexer {
         this.dialect = dialect;
     }
 
+    /**
+     * Sets the token to cancel lexing cooperatively.
+     *
+     * @param cancellationToken The cancellation token, null if lexing cannot be cancelled.
+     */
+    public void setCancellationToken(CancellationToken cancellationToken) {
+        this.cancellationToken = cancellationToken;
+    }
+
+    /**
+     * Checks the cancellation token before producing the next token.
+     * The scope lexer records the start of every visible token produced in the default mode.
+     * Such a token starts a statement in scope of IslandSQL.
+     *
+     * @return The next token.
+     */
+    @Override
+    public Token nextToken() {
+        if (cancellationToken != null) {
+            cancellationToken.check();
+        }
+        boolean defaultMode = scopeLexer && _mode == DEFAULT_MODE;
+        Token token = super.nextToken();
+        if (defaultMode && token.getChannel() == DEFAULT_TOKEN_CHANNEL && token.getType() != Token.EOF) {
+            statementStartIndexes.add(token.getStartIndex());
+            statementKinds.add(token.getType());
+        }
+        return token;
+    }
+
+    /**
+     * Gets the character start indexes of the statements in scope of IslandSQL.
+     * Populated by the scope lexer only.
+     *
+     * @return The start indexes of the statements in ascending order.
+     */
+    public List<Integer> getStatementStartIndexes() {
+        return statementStartIndexes;
+    }
+
+    /**
+     * Gets the kinds of the statements in scope of IslandSQL, e.g. IslandSqlScopeLexer.CREATE_PACKAGE.
+     * Populated by the scope lexer only.
+     *
+     * @return The token types of the statements, same order as {@link #getStatementStartIndexes()}.
+     */
+    public List<Integer> getStatementKinds() {
+        return statementKinds;
+    }
+
+    /**
+     * Emits the current token. Keywords are lexed as ID by the IslandSqlLexer.
+     * They get their keyword token type from the perfect hash table in KeywordTable.
+     *
+     * @return The emitted token.
+     */
+    @Override
+    public Token emit() {
+        if (!scopeLexer && _type == IslandSqlLexer.ID) {
+            int keywordType = KeywordTable.getTokenType(_input, _tokenStartCharIndex);
+            if (keywordType != Token.INVALID_TYPE) {
+                _type = keywordType;
+            }
+        }
+        return super.emit();
+    }
+
     /**
      * Emits token and saves last token for use in isBeginOfStatement.
      *
@@ -77,9 +183,12 @@ public abstract class IslandSqlLexerBase extends Lexer {
     public void setInputStream(IntStream input) {
         super.setInputStream(input);
         lastToken = null;
-        quoteDelimiter1 = null;
-        dollarIdentifier1 = null;
+        quoteDelimiter1 = -1;
+        dollarIdentifier1Start = -1;
+        dollarIdentifier1Length = 0;
         lastDollarIdentifierIndex = -1;
+        statementStartIndexes.clear();
+        statementKinds.clear();
     }
 
     /**
@@ -91,6 +200,37 @@ public abstract class IslandSqlLexerBase extends Lexer {
         return this.dialect;
     }
 
+    /**
+     * Gets the code point at an absolute position in the character stream without creating a String.
+     * Valid positions are in the range from 0 to the current position (inclusive).
+     *
+     * @param pos The position in the character stream.
+     * @return The code point at the position.
+     */
+    private int codePointAt(int pos) {
+        int offset = pos - _input.index();
+        return _input.LA(offset >= 0 ? offset + 1 : offset);
+    }
+
+    /**
+     * Determines if the text of the current lexer token starts with a prefix, ignoring case.
+     *
+     * @param prefix The expected prefix in lower case.
+     * @return Returns true if the current token text starts with the prefix.
+     */
+    private boolean tokenStartsWith(String prefix) {
+        int start = _tokenStartCharIndex;
+        if (_input.index() - start < prefix.length()) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length(); i++) {
+            if (Character.toLowerCase(codePointAt(start + i)) != prefix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Determines if the start of the current lexer token looks like a PL/SQL inquiry directive.
      * For PostgreSQL dialect this function will always return false.
@@ -103,16 +243,15 @@ public abstract class IslandSqlLexerBase extends Lexer {
         } else if (dialect == IslandSqlDialect.ORACLEDB) {
             return true;
         } else {
-            String text = getText().toLowerCase();
-            return (text.startsWith("$$plsql_line")
-                    || text.startsWith("$$plsql_unit") // handles also plsql_unit_owner, plsql_unit_type
-                    || text.startsWith("$$plscope_settings")
-                    || text.startsWith("$$plsql_ccflags")
-                    || text.startsWith("$$plsql_code_type")
-                    || text.startsWith("$$plsql_optimize_level")
-                    || text.startsWith("$$plsql_warnings")
-                    || text.startsWith("$$nls_length_semantics")
-                    || text.startsWith("$$permit_92_wrap_format"));
+            return tokenStartsWith("$$plsql_line")
+                    || tokenStartsWith("$$plsql_unit") // handles also plsql_unit_owner, plsql_unit_type
+                    || tokenStartsWith("$$plscope_settings")
+                    || tokenStartsWith("$$plsql_ccflags")
+                    || tokenStartsWith("$$plsql_code_type")
+                    || tokenStartsWith("$$plsql_optimize_level")
+                    || tokenStartsWith("$$plsql_warnings")
+                    || tokenStartsWith("$$nls_length_semantics")
+                    || tokenStartsWith("$$permit_92_wrap_format");
         }
     }
 
@@ -125,7 +264,7 @@ public abstract class IslandSqlLexerBase extends Lexer {
      */
     @SuppressWarnings("SameReturnValue")
     public boolean saveQuoteDelimiter1() {
-        quoteDelimiter1 = _input.getText(new Interval(_input.index()-1, _input.index()-1));
+        quoteDelimiter1 = codePointAt(_input.index() - 1);
         return true;
     }
 
@@ -136,26 +275,25 @@ public abstract class IslandSqlLexerBase extends Lexer {
      * @return Returns true if character matches quoteDelimiter1.
      */
     public boolean checkQuoteDelimiter2() {
-        String quoteDelimiter2 = _input.getText(new Interval(_input.index()-2, _input.index()-2));
-        return quoteDelimiter2.equals(quoteDelimiter1);
+        return codePointAt(_input.index() - 2) == quoteDelimiter1;
     }
 
     /**
-     * Determines the identifier in a dollar-quoted string constant.
+     * Determines the start position of the identifier in a dollar-quoted string constant.
      * Current index position is directly after the ending dollar sign.
+     * The identifier ends two positions before the current index position.
      *
-     * @return identifier in dollar-quoted string constant.
+     * @return start position of the identifier in dollar-quoted string constant, -1 if there is none.
      */
-    private String getDollarIdentifier() {
-        String identifier = null;
+    private int getDollarIdentifierStart() {
         if (_input.index() > 2) {
             int start = _input.index() - 2;
-            while (start > 0 && !"$".equals(_input.getText(new Interval(start, start)))) {
+            while (start > 0 && codePointAt(start) != '$') {
                 start--;
             }
-            identifier = _input.getText(new Interval(start + 1, _input.index() - 2));
+            return start + 1;
         }
-        return identifier;
+        return -1;
     }
 
     /**
@@ -168,10 +306,12 @@ public abstract class IslandSqlLexerBase extends Lexer {
      */
     @SuppressWarnings("SameReturnValue")
     public boolean saveDollarIdentifier1() {
-        if (dollarIdentifier1 == null && _input.index() > lastDollarIdentifierIndex) {
-            String id = getDollarIdentifier();
-            if (!id.isEmpty()) {
-                dollarIdentifier1 = id;
+        if (dollarIdentifier1Start < 0 && _input.index() > lastDollarIdentifierIndex) {
+            int start = getDollarIdentifierStart();
+            int length = _input.index() - 1 - start;
+            if (start >= 0 && length > 0) {
+                dollarIdentifier1Start = start;
+                dollarIdentifier1Length = length;
             }
         }
         return true;
@@ -179,20 +319,32 @@ public abstract class IslandSqlLexerBase extends Lexer {
 
     /**
      * Determines if the ID at the previous position
-     * is equal to the ID saved in "dollarIdentifier1".
+     * is equal to the ID saved in "dollarIdentifier1", ignoring case.
      * Reset of "dollarIdentifier1" to handle the
      * next dollar-quoted string constant.
      *
      * @return Returns true if character matches quoteDelimiter1.
      */
     public boolean checkDollarIdentifier2() {
-        String dollarIdentifier2 = getDollarIdentifier();
-        if (dollarIdentifier2.equalsIgnoreCase(dollarIdentifier1)) {
-            dollarIdentifier1 = null;
-            lastDollarIdentifierIndex = _input.index();
-            return true;
+        if (dollarIdentifier1Start < 0) {
+            return false;
         }
-        return false;
+        int start = getDollarIdentifierStart();
+        if (start < 0 || _input.index() - 1 - start != dollarIdentifier1Length) {
+            return false;
+        }
+        for (int i = 0; i < dollarIdentifier1Length; i++) {
+            int c1 = codePointAt(dollarIdentifier1Start + i);
+            int c2 = codePointAt(start + i);
+            if (c1 != c2 && Character.toUpperCase(c1) != Character.toUpperCase(c2)
+                    && Character.toLowerCase(c1) != Character.toLowerCase(c2)) {
+                return false;
+            }
+        }
+        dollarIdentifier1Start = -1;
+        dollarIdentifier1Length = 0;
+        lastDollarIdentifierIndex = _input.index();
+        return true;
     }
 
     /**
@@ -207,8 +359,7 @@ public abstract class IslandSqlLexerBase extends Lexer {
         if (pos < 0) {
             return true;
         }
-        String c = _input.getText(Interval.of(pos, pos));
-        return validChars.contains(c);
+        return validChars.indexOf(codePointAt(pos)) >= 0;
     }
 
     /**
@@ -253,9 +404,12 @@ public abstract class IslandSqlLexerBase extends Lexer {
                 // visible token in scope lexer, hence a statement
                 return true;
             } else {
-                // decide according previous token if it is a statement
-                String text = lastToken.getText().toLowerCase().trim();
-                if (text.endsWith(";") || text.endsWith("/")) {
+                // decide according previous token if it is a statement, ignoring trailing whitespace
+                int i = lastToken.getStopIndex();
+                while (i >= lastToken.getStartIndex() && codePointAt(i) <= ' ') {
+                    i--;
+                }
+                if (i >= lastToken.getStartIndex() && (codePointAt(i) == ';' || codePointAt(i) == '/')) {
                     return true;
                 }
             }
@@ -279,10 +433,10 @@ public abstract class IslandSqlLexerBase extends Lexer {
      * @return Returns true if the character at pos matches the expected character.
      */
     public boolean isCharAt(String character, int pos) {
-        if (pos < 0) {
+        if (pos < 0 || character.isEmpty()) {
             return false;
         }
-        String c = _input.getText(Interval.of(pos, pos));
-        return c.equals(character);
+        return character.length() == Character.charCount(character.codePointAt(0))
+                && codePointAt(pos) == character.codePointAt(0);
     }
 }
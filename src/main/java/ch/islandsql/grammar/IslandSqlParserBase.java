@@ -15,19 +15,51 @@
  */
 package ch.islandsql.grammar;
 
+import ch.islandsql.grammar.util.CancellationToken;
+import ch.islandsql.grammar.util.StatementBoundaries;
 import org.antlr.v4.runtime.CommonToken;
 import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.ParserRuleContext;
 import org.antlr.v4.runtime.Token;
 import org.antlr.v4.runtime.TokenStream;
+import org.antlr.v4.runtime.atn.ATNConfigSet;
+import org.antlr.v4.runtime.atn.ParserATNSimulator;
+import org.antlr.v4.runtime.atn.ProfilingATNSimulator;
+import org.antlr.v4.runtime.dfa.DFAState;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+import org.antlr.v4.runtime.tree.ErrorNode;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.TerminalNode;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Base class for IslandSqlParser class generated by ANTLR.
  * Used to provide methods to be used as semantic predicates in the parser grammar.
  */
 public abstract class IslandSqlParserBase extends Parser {
+    private int maxDepth = 0;
+    private int depth = 0;
+    private ParserRuleContext rootContext;
+    private CancellationToken cancellationToken;
+    private int maxStatementTokens = 0;
+    private int maxStatementNodes = 0;
+    private int maxStatementLookahead = 0;
+    private StatementBoundaries statementBoundaries;
+    private int statementStartIndex = -1;
+    private int statementNodes = 0;
+    private ParserRuleContext completedStatement = null;
+    private StatementHandler statementHandler;
+    private boolean flattenOperatorChains = false;
+    private final List<ParserRuleContext> subtreeCandidates = new ArrayList<>();
+    private final List<SubprogramToken> unsplicedSubprograms = new ArrayList<>();
+
     /**
      * Constructor
      *
@@ -38,6 +70,590 @@ public abstract class IslandSqlParserBase extends Parser {
         assert input instanceof CommonTokenStream : "Parser requires a CommonTokenStream as input.";
     }
 
+    /**
+     * Sets the SQL dialect. Uses an ATN without the alternatives that are not supported
+     * by the dialect, if available. The parse tree types are the same for all dialects.
+     * Must be called before {@link #setProfile(boolean)} and {@link #setMaxStatementLookahead(int)}
+     * since they wrap the current ATN simulator.
+     *
+     * @param dialect The SQL dialect to be used.
+     */
+    public void setDialect(IslandSqlDialect dialect) {
+        DialectAtn dialectAtn = DialectAtn.of(dialect);
+        if (dialectAtn != null && getInterpreter().atn != dialectAtn.atn) {
+            ParserATNSimulator interpreter = new ParserATNSimulator(this, dialectAtn.atn,
+                    dialectAtn.decisionToDFA, dialectAtn.sharedContextCache);
+            interpreter.setPredictionMode(getInterpreter().getPredictionMode());
+            setInterpreter(interpreter);
+        }
+    }
+
+    /**
+     * Sets the maximum nesting depth of rule invocations.
+     * When the limit is exceeded, a syntax error is reported and parsing is cancelled
+     * with a {@link ParseCancellationException}. The partial parse tree is available via
+     * {@link #getRootContext()}. Default is 0, this means the nesting depth is not limited.
+     *
+     * @param maxDepth The maximum nesting depth, 0 for unlimited.
+     */
+    public void setMaxDepth(int maxDepth) {
+        this.maxDepth = maxDepth;
+    }
+
+    /**
+     * Gets the maximum nesting depth of rule invocations.
+     *
+     * @return The maximum nesting depth, 0 for unlimited.
+     */
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    /**
+     * Sets the token to cancel parsing cooperatively. The token is checked on every rule entry.
+     * A cancelled parse stops with a {@link ParseCancellationException}. The partial parse tree
+     * is available via {@link #getRootContext()}.
+     *
+     * @param cancellationToken The cancellation token, null if parsing cannot be cancelled.
+     */
+    public void setCancellationToken(CancellationToken cancellationToken) {
+        this.cancellationToken = cancellationToken;
+    }
+
+    /**
+     * Sets the maximum number of tokens of a top-level statement, including hidden tokens.
+     * A statement exceeding the budget is not parsed, see {@link StatementBudgetExceededException}.
+     * Default is 0, this means the number of tokens is not limited.
+     *
+     * @param maxStatementTokens The maximum number of tokens per statement, 0 for unlimited.
+     */
+    public void setMaxStatementTokens(int maxStatementTokens) {
+        this.maxStatementTokens = maxStatementTokens;
+    }
+
+    /**
+     * Sets the maximum number of rule nodes in the parse tree of a top-level statement.
+     * A statement exceeding the budget is not parsed, see {@link StatementBudgetExceededException}.
+     * Default is 0, this means the number of nodes is not limited.
+     *
+     * @param maxStatementNodes The maximum number of rule nodes per statement, 0 for unlimited.
+     */
+    public void setMaxStatementNodes(int maxStatementNodes) {
+        this.maxStatementNodes = maxStatementNodes;
+    }
+
+    /**
+     * Sets the maximum number of tokens examined by a single adaptive prediction in a top-level statement.
+     * A statement exceeding the budget is not parsed, see {@link StatementBudgetExceededException}.
+     * Default is 0, this means the lookahead is not limited. The limit is not applied when profiling
+     * is enabled, therefore it must be set after {@link #setProfile(boolean)}.
+     *
+     * @param maxStatementLookahead The maximum lookahead per prediction, 0 for unlimited.
+     */
+    public void setMaxStatementLookahead(int maxStatementLookahead) {
+        this.maxStatementLookahead = maxStatementLookahead;
+        if (maxStatementLookahead > 0) {
+            installStatementATNSimulator();
+        }
+    }
+
+    /**
+     * Sets the start positions and kinds of the statements found by the scope lexer.
+     * Used to determine the number of tokens of a statement before parsing it and to choose
+     * the rule of a statement according its kind without adaptive prediction.
+     * Statements are not dispatched when profiling is enabled, therefore it must be set
+     * after {@link #setProfile(boolean)}.
+     *
+     * @param statementBoundaries The statement boundaries, null if unknown.
+     */
+    public void setStatementBoundaries(StatementBoundaries statementBoundaries) {
+        this.statementBoundaries = statementBoundaries;
+        if (statementBoundaries != null) {
+            installStatementATNSimulator();
+        }
+    }
+
+    /**
+     * Replaces the ATN simulator with a StatementATNSimulator unless profiling is enabled.
+     */
+    private void installStatementATNSimulator() {
+        if (!(getInterpreter() instanceof ProfilingATNSimulator)
+                && !(getInterpreter() instanceof StatementATNSimulator)) {
+            ParserATNSimulator interpreter = getInterpreter();
+            setInterpreter(new StatementATNSimulator(interpreter));
+        }
+    }
+
+    /**
+     * Gets the alternative of a decision at the start of a top-level statement based on the statement kind.
+     * Applies to the decisions in statement and in the rules between statement and the rule of the kind.
+     *
+     * @param input        The token stream.
+     * @param decision     The decision number.
+     * @param outerContext The context of the rule containing the decision.
+     * @return The alternative, 0 if the decision must be predicted.
+     */
+    private int dispatchStatement(TokenStream input, int decision, ParserRuleContext outerContext) {
+        if (statementBoundaries == null || !(rootContext instanceof IslandSqlParser.FileContext)) {
+            return 0;
+        }
+        ParserRuleContext statement = outerContext;
+        for (int i = 0; i < 2 && statement != null && !(statement instanceof IslandSqlParser.StatementContext); i++) {
+            statement = statement.getParent();
+        }
+        if (!(statement instanceof IslandSqlParser.StatementContext)
+                || !(statement.getParent() instanceof IslandSqlParser.FileContext)
+                || statement.start == null || statement.start.getTokenIndex() != input.index()) {
+            return 0;
+        }
+        return StatementDispatch.getAlt(statementBoundaries.getKindAt(input.index()), decision);
+    }
+
+    /**
+     * Gets the start positions of the statements found by the scope lexer.
+     *
+     * @return The statement boundaries, null if unknown.
+     */
+    public StatementBoundaries getStatementBoundaries() {
+        return statementBoundaries;
+    }
+
+    /**
+     * Sets the handler to be called for every completed top-level statement.
+     * The statement is removed from the parse tree after calling the handler.
+     * Statements abandoned due to an exceeded budget are not passed to the handler.
+     *
+     * @param statementHandler The statement handler, null to keep all statements in the parse tree.
+     */
+    public void setStatementHandler(StatementHandler statementHandler) {
+        this.statementHandler = statementHandler;
+    }
+
+    /**
+     * Gets the handler to be called for every completed top-level statement.
+     *
+     * @return The statement handler, null if statements are kept in the parse tree.
+     */
+    public StatementHandler getStatementHandler() {
+        return statementHandler;
+    }
+
+    /**
+     * Sets the flag to flatten chains of the same binary operator in expressions.
+     * For example, <code>a + b + c</code> produces a single addition with three operands instead of
+     * an addition with another addition as left operand. The nesting depth of long chains is
+     * constant. Full context predictions of the loop continuing a chain are reused for the same lookahead.
+     * See {@link OperatorChain} and {@link FullContextPredictionCache}. Predictions are not reused when
+     * profiling is enabled, therefore it must be set after {@link #setProfile(boolean)}.
+     *
+     * @param flattenOperatorChains Flatten chains of the same binary operator?
+     */
+    public void setFlattenOperatorChains(boolean flattenOperatorChains) {
+        this.flattenOperatorChains = flattenOperatorChains;
+        if (flattenOperatorChains) {
+            installStatementATNSimulator();
+        }
+    }
+
+    /**
+     * Gets the flag to flatten chains of the same binary operator in expressions.
+     *
+     * @return Returns true if chains of the same binary operator are flattened.
+     */
+    public boolean isFlattenOperatorChains() {
+        return flattenOperatorChains;
+    }
+
+    /**
+     * Gets the context of the start rule of the current or last parse.
+     * Used to access the partial parse tree after parsing has been cancelled.
+     *
+     * @return The context of the start rule.
+     */
+    public ParserRuleContext getRootContext() {
+        return rootContext;
+    }
+
+    /**
+     * Gets the subprogram tokens consumed without replacing them by the parse tree of the definition
+     * since the last reset.
+     *
+     * @return The subprogram tokens consumed as ordinary tokens.
+     */
+    List<SubprogramToken> getUnsplicedSubprograms() {
+        return unsplicedSubprograms;
+    }
+
+    /**
+     * Resets the parser and the nesting depth.
+     */
+    @Override
+    public void reset() {
+        super.reset();
+        depth = 0;
+        rootContext = null;
+        statementStartIndex = -1;
+        statementNodes = 0;
+        completedStatement = null;
+        if (subtreeCandidates != null) {
+            // null when called by the constructor of Parser
+            subtreeCandidates.clear();
+            unsplicedSubprograms.clear();
+        }
+    }
+
+    /**
+     * Enters a rule and checks the nesting depth. Records the contexts of <code>do</code> statements
+     * and of function and procedure sources when building a parse tree.
+     *
+     * @param localctx  The context of the rule.
+     * @param state     The ATN state.
+     * @param ruleIndex The rule index.
+     */
+    @Override
+    public void enterRule(ParserRuleContext localctx, int state, int ruleIndex) {
+        checkRuleEntry(localctx, ruleIndex);
+        super.enterRule(localctx, state, ruleIndex);
+        if (_buildParseTrees && (ruleIndex == IslandSqlParser.RULE_postgresqlDo
+                || ruleIndex == IslandSqlParser.RULE_postgresqlFunctionSource
+                || ruleIndex == IslandSqlParser.RULE_postgresqlProcedureSource)) {
+            subtreeCandidates.add(localctx);
+        }
+    }
+
+    /**
+     * Gets the contexts of <code>do</code> statements and of function and procedure sources recorded
+     * since the last call, to find the code to be parsed as subtree without searching the parse tree.
+     * Contexts which are not part of the parse tree of root are ignored, e.g. the ones of partially
+     * parsed statements replaced by a {@link ShallowStatementContext}. For a top-level statement
+     * these contexts are kept for later calls, e.g. for statements kept in the parse tree of file.
+     *
+     * @param root The root of the parse tree, a file or a top-level statement.
+     * @return The contexts in the order of appearance.
+     */
+    List<ParserRuleContext> takeSubtreeCandidates(ParserRuleContext root) {
+        List<ParserRuleContext> candidates = new ArrayList<>();
+        Set<ParserRuleContext> rootChildren = null;
+        boolean keepOthers = root.getParent() != null;
+        Iterator<ParserRuleContext> iterator = subtreeCandidates.iterator();
+        while (iterator.hasNext()) {
+            ParserRuleContext candidate = iterator.next();
+            ParserRuleContext child = candidate;
+            while (child != null && child.getParent() != root) {
+                child = child.getParent();
+            }
+            if (child != null) {
+                if (rootChildren == null) {
+                    rootChildren = Collections.newSetFromMap(new IdentityHashMap<>());
+                    rootChildren.addAll(root.getRuleContexts(ParserRuleContext.class));
+                }
+                if (rootChildren.contains(child)) {
+                    candidates.add(candidate);
+                    if (keepOthers) {
+                        iterator.remove();
+                    }
+                }
+            }
+        }
+        if (!keepOthers) {
+            subtreeCandidates.clear();
+        }
+        return candidates;
+    }
+
+    /**
+     * Enters a left-recursive rule and checks the nesting depth.
+     *
+     * @param localctx   The context of the rule.
+     * @param state      The ATN state.
+     * @param ruleIndex  The rule index.
+     * @param precedence The precedence level.
+     */
+    @Override
+    public void enterRecursionRule(ParserRuleContext localctx, int state, int ruleIndex, int precedence) {
+        checkRuleEntry(localctx, ruleIndex);
+        super.enterRecursionRule(localctx, state, ruleIndex, precedence);
+    }
+
+    /**
+     * Marks the current statement as completed. Called at the end of the statement rule,
+     * which is only reached when the rule ends normally, i.e. without a syntax error at the statement
+     * level and without unwinding due to an exception.
+     */
+    protected void completeStatement() {
+        completedStatement = _ctx;
+    }
+
+    /**
+     * Exits a rule. Ends the budget of a top-level statement. Passes a top-level statement
+     * to the statement handler, if any, and removes it from the parse tree, if the statement
+     * has been completed. Other statements are kept in the parse tree.
+     */
+    @Override
+    public void exitRule() {
+        ParserRuleContext ctx = _ctx;
+        if (depth == 2 && statementStartIndex >= 0) {
+            statementStartIndex = -1;
+        }
+        super.exitRule();
+        depth--;
+        if (depth == 1 && ctx instanceof IslandSqlParser.StatementContext && _ctx instanceof IslandSqlParser.FileContext) {
+            boolean completed = completedStatement == ctx && ctx.exception == null;
+            completedStatement = null;
+            if (completed && statementHandler != null) {
+                statementHandler.handle((IslandSqlParser.StatementContext) ctx);
+                if (_ctx.children != null && !_ctx.children.isEmpty() && _ctx.children.get(_ctx.children.size() - 1) == ctx) {
+                    _ctx.removeLastChild();
+                }
+            }
+        }
+    }
+
+    /**
+     * Wraps the previous context of a left-recursive rule into a new context.
+     * Flattens the chain ending with the previous context, unless the new context continues it.
+     *
+     * @param localctx  The new context.
+     * @param state     The ATN state.
+     * @param ruleIndex The rule index.
+     */
+    @Override
+    public void pushNewRecursionContext(ParserRuleContext localctx, int state, int ruleIndex) {
+        ParserRuleContext previous = _ctx;
+        super.pushNewRecursionContext(localctx, state, ruleIndex);
+        if (flattenOperatorChains && !OperatorChain.continues(previous, localctx, _input.LA(1))) {
+            OperatorChain.flatten(previous);
+        }
+    }
+
+    /**
+     * Exits a left-recursive rule. Flattens the chain ending with the result context.
+     *
+     * @param _parentctx The context of the calling rule.
+     */
+    @Override
+    public void unrollRecursionContexts(ParserRuleContext _parentctx) {
+        if (flattenOperatorChains) {
+            OperatorChain.flatten(_ctx);
+        }
+        super.unrollRecursionContexts(_parentctx);
+        depth--;
+    }
+
+    /**
+     * Consumes the current token. Replaces a {@link SubprogramToken} by the parse tree of the
+     * function or procedure definition it stands for and continues after the definition.
+     * A subprogram token consumed in another context, e.g. by the error recovery, is recorded
+     * as unspliced, see {@link #getUnsplicedSubprograms()}.
+     *
+     * @return The consumed token.
+     */
+    @Override
+    public Token consume() {
+        Token token = super.consume();
+        if (!(token instanceof SubprogramToken)) {
+            return token;
+        }
+        SubprogramToken subprogram = (SubprogramToken) token;
+        if (_buildParseTrees && _ctx instanceof IslandSqlParser.ItemlistItemContext && _ctx.getChildCount() > 0
+                && !(_ctx.getChild(_ctx.getChildCount() - 1) instanceof ErrorNode)
+                && _ctx.getChild(_ctx.getChildCount() - 1).getPayload() == token) {
+            _ctx.removeLastChild();
+            for (ParseTree child : subprogram.getItem().children) {
+                if (child instanceof ParserRuleContext) {
+                    ((ParserRuleContext) child).parent = _ctx;
+                    _ctx.addChild((ParserRuleContext) child);
+                } else if (child instanceof TerminalNode) {
+                    ((TerminalNode) child).setParent(_ctx);
+                    _ctx.addAnyChild(child);
+                }
+            }
+            for (ParserRuleContext ctx = _ctx; ctx != null && ctx.start == token; ctx = ctx.getParent()) {
+                ctx.start = subprogram.getOriginalToken();
+            }
+            _input.seek(subprogram.getLastTokenIndex() + 1);
+        } else {
+            // e.g. consumed by the error recovery, the main parser continues with the second token of the definition
+            unsplicedSubprograms.add(subprogram);
+        }
+        return token;
+    }
+
+    /**
+     * Checks the cancellation token, the statement budget and increases the nesting depth
+     * before entering a rule. The generated code calls exitRule only for successfully entered rules.
+     *
+     * @param localctx  The context of the rule to be entered.
+     * @param ruleIndex The rule index.
+     */
+    private void checkRuleEntry(ParserRuleContext localctx, int ruleIndex) {
+        if (_ctx == null) {
+            rootContext = localctx;
+        }
+        if (cancellationToken != null) {
+            cancellationToken.check();
+        }
+        if (maxDepth > 0 && depth >= maxDepth) {
+            String message = "maximum nesting depth of " + maxDepth + " exceeded in rule " + getRuleNames()[ruleIndex];
+            notifyErrorListeners(getCurrentToken(), message, null);
+            throw new ParseCancellationException(message);
+        }
+        if (maxStatementTokens > 0 || maxStatementNodes > 0 || maxStatementLookahead > 0) {
+            checkStatementBudget(ruleIndex);
+        }
+        depth++;
+    }
+
+    /**
+     * Checks the budget of the current top-level statement, a direct child of file.
+     * The number of tokens is checked upfront if the statement boundaries are known.
+     *
+     * @param ruleIndex The index of the rule to be entered.
+     */
+    private void checkStatementBudget(int ruleIndex) {
+        if (!(rootContext instanceof IslandSqlParser.FileContext)) {
+            return;
+        }
+        if (depth == 1 && ruleIndex == IslandSqlParser.RULE_statement) {
+            statementStartIndex = _input.index();
+            statementNodes = 0;
+            if (maxStatementTokens > 0 && statementBoundaries != null) {
+                int next = statementBoundaries.getNextStartTokenIndex(statementStartIndex);
+                int size = (next >= 0 ? next : _input.size()) - statementStartIndex;
+                if (size > maxStatementTokens) {
+                    exceedStatementBudget("more than " + maxStatementTokens + " tokens");
+                }
+            }
+        } else if (depth > 1 && statementStartIndex >= 0) {
+            if (maxStatementNodes > 0 && ++statementNodes > maxStatementNodes) {
+                exceedStatementBudget("more than " + maxStatementNodes + " nodes");
+            }
+            if (maxStatementTokens > 0 && _input.index() - statementStartIndex > maxStatementTokens) {
+                exceedStatementBudget("more than " + maxStatementTokens + " tokens");
+            }
+        }
+    }
+
+    /**
+     * Stops parsing the current top-level statement with a {@link StatementBudgetExceededException}.
+     * The exceeded budget is not a syntax error, the reason is kept in the {@link ShallowStatementContext}.
+     *
+     * @param reason The exceeded budget.
+     */
+    private void exceedStatementBudget(String reason) {
+        String message = "statement budget exceeded, " + reason + ", statement not parsed";
+        int startIndex = statementStartIndex;
+        statementStartIndex = -1;
+        throw new StatementBudgetExceededException(message, startIndex);
+    }
+
+    /**
+     * Thrown when a top-level statement exceeds a budget. The parser stops with this exception.
+     * The caller is expected to replace the partial statement with a {@link ShallowStatementContext}
+     * and to resume parsing at the next statement.
+     */
+    public static class StatementBudgetExceededException extends ParseCancellationException {
+        private static final long serialVersionUID = 1L;
+        private final int startTokenIndex;
+
+        /**
+         * Constructor.
+         *
+         * @param message         The reason for the exception.
+         * @param startTokenIndex The index of the first token of the statement.
+         */
+        public StatementBudgetExceededException(String message, int startTokenIndex) {
+            super(message);
+            this.startTokenIndex = startTokenIndex;
+        }
+
+        /**
+         * Gets the index of the first token of the statement exceeding the budget.
+         *
+         * @return The token index.
+         */
+        public int getStartTokenIndex() {
+            return startTokenIndex;
+        }
+    }
+
+    /**
+     * ATN simulator for top-level statements. Chooses alternatives according the statement kind
+     * determined by the scope lexer, if possible.
+     * Reuses full context predictions of the precedence loop in expressions, see {@link FullContextPredictionCache}.
+     * Limits the lookahead of adaptive predictions.
+     * Uses the shared DFA and prediction context cache of the replaced simulator.
+     */
+    private class StatementATNSimulator extends ParserATNSimulator {
+        private final FullContextPredictionCache predictionCache = new FullContextPredictionCache();
+        private int lookahead = 0;
+        private int maxIndex = -1;
+        private boolean fullContext = false;
+
+        /**
+         * Constructor.
+         *
+         * @param interpreter The simulator to be replaced.
+         */
+        StatementATNSimulator(ParserATNSimulator interpreter) {
+            super(IslandSqlParserBase.this, interpreter.atn, interpreter.decisionToDFA, interpreter.getSharedContextCache());
+            setPredictionMode(interpreter.getPredictionMode());
+        }
+
+        @Override
+        public int adaptivePredict(TokenStream input, int decision, ParserRuleContext outerContext) {
+            int alt = dispatchStatement(input, decision, outerContext);
+            if (alt > 0) {
+                return alt;
+            }
+            FullContextPredictionCache.Key key = null;
+            if (flattenOperatorChains && OperatorChain.isLoopDecision(decision)) {
+                key = new FullContextPredictionCache.Key(decision, getPrecedence(), outerContext);
+                alt = predictionCache.get(key, input);
+                if (alt > 0) {
+                    return alt;
+                }
+            }
+            lookahead = 0;
+            maxIndex = -1;
+            fullContext = false;
+            alt = super.adaptivePredict(input, decision, outerContext);
+            if (key != null && fullContext) {
+                predictionCache.put(key, input, maxIndex, alt);
+            }
+            return alt;
+        }
+
+        @Override
+        protected DFAState getExistingTargetState(DFAState previousD, int t) {
+            countLookahead();
+            return super.getExistingTargetState(previousD, t);
+        }
+
+        @Override
+        protected ATNConfigSet computeReachSet(ATNConfigSet closure, int t, boolean fullCtx) {
+            if (fullCtx) {
+                // SLL steps are counted in getExistingTargetState
+                countLookahead();
+                fullContext = true;
+                // the result of a full context prediction depends only on the tokens examined in full context,
+                // the SLL lookahead may reach far beyond, e.g. to the end of the file
+                maxIndex = Math.max(maxIndex, _input.index());
+            }
+            return super.computeReachSet(closure, t, fullCtx);
+        }
+
+        /**
+         * Counts a prediction step and checks the lookahead budget.
+         */
+        private void countLookahead() {
+            if (maxStatementLookahead > 0 && ++lookahead > maxStatementLookahead && statementStartIndex >= 0
+                    && rootContext instanceof IslandSqlParser.FileContext) {
+                exceedStatementBudget("lookahead of more than " + maxStatementLookahead + " tokens");
+            }
+        }
+    }
+
     /**
      * Puts the first hint-style comment right to the current position on the default channel.
      * We know that OracleDB considers only the first hint-style comment. See
@@ -2,13 +2,19 @@ package ch.islandsql.grammar;
 
 import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.TerminalNode;
+
+import java.util.List;
 
 /**
  * Custom parser rule context that holds a token stream for start rules.
  * The token stream is set instantiating an IslandSqlDocument.
+ * Optionally holds a loader to add a subtree on first access to the children.
  */
 public class IslandSqlParserRuleContext extends ParserRuleContext {
     private CommonTokenStream tokenStream;
+    private volatile Runnable subtreeLoader;
 
     /**
      * Default constructor
@@ -61,4 +67,122 @@ public class IslandSqlParserRuleContext extends ParserRuleContext {
     public void setTokenStream(CommonTokenStream tokenStream) {
         this.tokenStream = tokenStream;
     }
+
+    /**
+     * Sets the loader of a subtree to be added to the children of this node.
+     * The loader is called once, on first access to the children via the methods of this class.
+     * See {@link IslandSqlDocument.Builder#lazySubtrees(boolean)}.
+     *
+     * @param subtreeLoader the loader adding the subtree, null if there is no pending subtree.
+     */
+    void setSubtreeLoader(Runnable subtreeLoader) {
+        this.subtreeLoader = subtreeLoader;
+    }
+
+    /**
+     * Adds the pending subtree, if any. Concurrent callers wait until the subtree is added.
+     */
+    void loadSubtree() {
+        if (subtreeLoader != null) {
+            synchronized (this) {
+                Runnable loader = subtreeLoader;
+                if (loader != null) {
+                    try {
+                        loader.run();
+                    } finally {
+                        subtreeLoader = null;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the child at a position. Adds the pending subtree first.
+     *
+     * @param i the position of the child
+     * @return the child, null if there is no child at the position
+     */
+    @Override
+    public ParseTree getChild(int i) {
+        loadSubtree();
+        return super.getChild(i);
+    }
+
+    /**
+     * Gets the i-th child of a type. Adds the pending subtree first.
+     *
+     * @param ctxType the type of the child
+     * @param i the position of the child among the children of the type
+     * @param <T> the type of the child
+     * @return the child, null if there is no such child
+     */
+    @Override
+    public <T extends ParseTree> T getChild(Class<? extends T> ctxType, int i) {
+        loadSubtree();
+        return super.getChild(ctxType, i);
+    }
+
+    /**
+     * Gets the i-th terminal node of a token type. Adds the pending subtree first.
+     *
+     * @param ttype the token type
+     * @param i the position of the terminal node among the terminal nodes of the token type
+     * @return the terminal node, null if there is no such terminal node
+     */
+    @Override
+    public TerminalNode getToken(int ttype, int i) {
+        loadSubtree();
+        return super.getToken(ttype, i);
+    }
+
+    /**
+     * Gets the terminal nodes of a token type. Adds the pending subtree first.
+     *
+     * @param ttype the token type
+     * @return the terminal nodes of the token type
+     */
+    @Override
+    public List<TerminalNode> getTokens(int ttype) {
+        loadSubtree();
+        return super.getTokens(ttype);
+    }
+
+    /**
+     * Gets the i-th child rule context of a type. Adds the pending subtree first.
+     *
+     * @param ctxType the type of the rule context
+     * @param i the position of the rule context among the children of the type
+     * @param <T> the type of the rule context
+     * @return the rule context, null if there is no such rule context
+     */
+    @Override
+    public <T extends ParserRuleContext> T getRuleContext(Class<? extends T> ctxType, int i) {
+        loadSubtree();
+        return super.getRuleContext(ctxType, i);
+    }
+
+    /**
+     * Gets the child rule contexts of a type. Adds the pending subtree first.
+     *
+     * @param ctxType the type of the rule contexts
+     * @param <T> the type of the rule contexts
+     * @return the rule contexts of the type
+     */
+    @Override
+    public <T extends ParserRuleContext> List<T> getRuleContexts(Class<? extends T> ctxType) {
+        loadSubtree();
+        return super.getRuleContexts(ctxType);
+    }
+
+    /**
+     * Gets the number of children. Adds the pending subtree first.
+     *
+     * @return the number of children
+     */
+    @Override
+    public int getChildCount() {
+        loadSubtree();
+        return super.getChildCount();
+    }
 }
@@ -0,0 +1,241 @@
+/*
+ * Copyright 2026 Philipp Salvisberg <philipp.salvisberg@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.islandsql.grammar;
+
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.Vocabulary;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Maps the text of an identifier to a keyword token type using a perfect hash table.
+ * The table is generated from the vocabulary of the IslandSqlLexer. Every token named K_*
+ * is a keyword, its text is the token name without the prefix in lower case.
+ * Keywords are matched case-insensitively, but only for ASCII letters like in the lexer grammar.
+ * Uses hash and displace: the hash of a key selects a bucket and the displacement of the bucket
+ * selects a slot, that is used by no other key. Hence, a lookup compares one key at most.
+ */
+final class KeywordTable {
+    private static final KeywordTable INSTANCE = new KeywordTable(IslandSqlLexer.VOCABULARY);
+    private static final int MAX_DISPLACEMENT = 1 << 24;
+
+    private final char[][] keys;
+    private final int[] tokenTypes;
+    private final int[] displacements;
+    private final int mask;
+    private final int maxLength;
+
+    /**
+     * Constructor. Generates the perfect hash table.
+     *
+     * @param vocabulary Vocabulary containing keyword tokens named K_*.
+     */
+    KeywordTable(Vocabulary vocabulary) {
+        List<char[]> keywords = new ArrayList<>();
+        List<Integer> types = new ArrayList<>();
+        int longest = 0;
+        for (int type = 1; type <= vocabulary.getMaxTokenType(); type++) {
+            String name = vocabulary.getSymbolicName(type);
+            if (name != null && name.startsWith("K_")) {
+                char[] keyword = name.substring(2).toLowerCase(Locale.ROOT).toCharArray();
+                keywords.add(keyword);
+                types.add(type);
+                longest = Math.max(longest, keyword.length);
+            }
+        }
+        int size = Integer.highestOneBit(Math.max(1, keywords.size()) * 2 - 1);
+        keys = new char[size][];
+        tokenTypes = new int[size];
+        displacements = new int[Math.max(1, keywords.size() / 4)];
+        mask = size - 1;
+        maxLength = longest;
+        populate(keywords, types);
+    }
+
+    /**
+     * Assigns a slot to every keyword, starting with the buckets containing the most keywords.
+     *
+     * @param keywords Keywords in lower case.
+     * @param types    Token types of the keywords.
+     */
+    private void populate(List<char[]> keywords, List<Integer> types) {
+        List<List<Integer>> buckets = new ArrayList<>();
+        for (int i = 0; i < displacements.length; i++) {
+            buckets.add(new ArrayList<>());
+        }
+        int[] hashes = new int[keywords.size()];
+        for (int i = 0; i < keywords.size(); i++) {
+            char[] keyword = keywords.get(i);
+            hashes[i] = hash(keyword, keyword.length);
+            buckets.get(bucket(hashes[i])).add(i);
+        }
+        Integer[] order = new Integer[buckets.size()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> buckets.get(b).size() - buckets.get(a).size());
+        int[] slots = new int[keys.length];
+        for (int b : order) {
+            List<Integer> bucket = buckets.get(b);
+            if (bucket.isEmpty()) {
+                break;
+            }
+            int displacement = 0;
+            while (!fits(bucket, hashes, displacement, slots)) {
+                displacement++;
+                if (displacement > MAX_DISPLACEMENT) {
+                    throw new IllegalStateException("Cannot generate perfect hash table for keywords.");
+                }
+            }
+            displacements[b] = displacement;
+            for (int i : bucket) {
+                int slot = slot(hashes[i], displacement);
+                keys[slot] = keywords.get(i);
+                tokenTypes[slot] = types.get(i);
+            }
+        }
+    }
+
+    /**
+     * Determines if all keywords of a bucket can be stored in free, distinct slots.
+     *
+     * @param bucket       Indexes of the keywords in the bucket.
+     * @param hashes       Hashes of all keywords.
+     * @param displacement The displacement to be tried.
+     * @param slots        Work area, same size as the table.
+     * @return Returns true if the displacement is valid for this bucket.
+     */
+    private boolean fits(List<Integer> bucket, int[] hashes, int displacement, int[] slots) {
+        for (int i = 0; i < bucket.size(); i++) {
+            int slot = slot(hashes[bucket.get(i)], displacement);
+            if (keys[slot] != null) {
+                return false;
+            }
+            for (int j = 0; j < i; j++) {
+                if (slots[j] == slot) {
+                    return false;
+                }
+            }
+            slots[i] = slot;
+        }
+        return true;
+    }
+
+    /**
+     * Gets the keyword token type of a token in the character stream.
+     * Reads the characters via the look-ahead of the stream without creating a String.
+     *
+     * @param input The character stream, positioned after the token.
+     * @param start Index of the first character of the token.
+     * @return The keyword token type, Token.INVALID_TYPE if the token is not a keyword.
+     */
+    static int getTokenType(CharStream input, int start) {
+        return INSTANCE.lookup(input, start);
+    }
+
+    /**
+     * Gets the keyword token type of a token in the character stream.
+     *
+     * @param input The character stream, positioned after the token.
+     * @param start Index of the first character of the token.
+     * @return The keyword token type, Token.INVALID_TYPE if the token is not a keyword.
+     */
+    int lookup(CharStream input, int start) {
+        int length = input.index() - start;
+        if (length < 1 || length > maxLength) {
+            return Token.INVALID_TYPE;
+        }
+        int h = 0x811C9DC5;
+        for (int i = 0; i < length; i++) {
+            int c = toLowerCase(input.LA(start - input.index() + i));
+            if (c < 0) {
+                return Token.INVALID_TYPE;
+            }
+            h = (h ^ c) * 0x01000193;
+        }
+        int slot = slot(h, displacements[bucket(h)]);
+        char[] key = keys[slot];
+        if (key == null || key.length != length) {
+            return Token.INVALID_TYPE;
+        }
+        for (int i = 0; i < length; i++) {
+            if (toLowerCase(input.LA(start - input.index() + i)) != key[i]) {
+                return Token.INVALID_TYPE;
+            }
+        }
+        return tokenTypes[slot];
+    }
+
+    /**
+     * Converts an ASCII upper case letter to lower case.
+     *
+     * @param c The code point to convert.
+     * @return The code point in lower case, -1 for non-ASCII code points.
+     */
+    private static int toLowerCase(int c) {
+        if (c >= 'A' && c <= 'Z') {
+            return c + ('a' - 'A');
+        }
+        return c >= 0 && c < 128 ? c : -1;
+    }
+
+    /**
+     * Calculates the FNV-1a hash of a keyword.
+     *
+     * @param keyword The keyword in lower case.
+     * @param length  The length of the keyword.
+     * @return The hash value.
+     */
+    private static int hash(char[] keyword, int length) {
+        int h = 0x811C9DC5;
+        for (int i = 0; i < length; i++) {
+            h = (h ^ keyword[i]) * 0x01000193;
+        }
+        return h;
+    }
+
+    /**
+     * Gets the bucket of a hash value.
+     *
+     * @param h The hash value.
+     * @return The bucket index.
+     */
+    private int bucket(int h) {
+        return (h & 0x7FFFFFFF) % displacements.length;
+    }
+
+    /**
+     * Gets the slot of a hash value for a displacement.
+     *
+     * @param h            The hash value.
+     * @param displacement The displacement of the bucket.
+     * @return The slot index.
+     */
+    private int slot(int h, int displacement) {
+        int x = h ^ (displacement * 0x9E3779B9);
+        x ^= x >>> 16;
+        x *= 0x85EBCA6B;
+        x ^= x >>> 13;
+        x *= 0xC2B2AE35;
+        x ^= x >>> 16;
+        return x & mask;
+    }
+}
@@ -0,0 +1,238 @@
+/*
+ * Copyright 2026 Philipp Salvisberg <philipp.salvisberg@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.islandsql.grammar;
+
+import org.antlr.v4.runtime.CommonToken;
+import org.antlr.v4.runtime.Token;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.List;
+
+/**
+ * Token of type LITERAL_LIST covering a comma-separated list of literals, for example
+ * <code>1, 'a', null, -2.5</code> in <code>values (1, 'a', null, -2.5)</code>.
+ * It replaces the first token of the list, all other tokens of the list are hidden.
+ * The parser produces a single literalListExpression instead of an expression per literal.
+ * The token keeps the token range and the number of literals. The literals are determined
+ * on demand from the hidden tokens.
+ * See {@link ch.islandsql.grammar.util.TokenStreamUtil#compactLiteralLists}.
+ */
+public class LiteralListToken extends CommonToken {
+    private static final long serialVersionUID = 1L;
+    private final List<Token> tokens;
+    private final Token firstToken;
+    private final int lastTokenIndex;
+    private final int count;
+    private int[] literalStartIndexes;
+
+    /**
+     * Constructor.
+     *
+     * @param tokens         All tokens of the token stream.
+     * @param firstToken     The first token of the list, replaced by this token.
+     * @param lastTokenIndex The index of the last token of the list.
+     * @param count          The number of literals in the list.
+     */
+    public LiteralListToken(List<Token> tokens, Token firstToken, int lastTokenIndex, int count) {
+        super(firstToken);
+        this.tokens = tokens;
+        this.firstToken = firstToken;
+        this.lastTokenIndex = lastTokenIndex;
+        this.count = count;
+        setType(IslandSqlParser.LITERAL_LIST);
+        setText(null);
+        setStopIndex(tokens.get(lastTokenIndex).getStopIndex());
+    }
+
+    /**
+     * Gets the index of the first token of the list. Same as the index of this token.
+     *
+     * @return The index of the first token of the list.
+     */
+    public int getFirstTokenIndex() {
+        return getTokenIndex();
+    }
+
+    /**
+     * Gets the index of the last token of the list.
+     *
+     * @return The index of the last token of the list.
+     */
+    public int getLastTokenIndex() {
+        return lastTokenIndex;
+    }
+
+    /**
+     * Gets the number of literals in the list.
+     *
+     * @return The number of literals.
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Gets the text of a literal. The text of a signed number contains the sign without whitespace.
+     *
+     * @param index The index of the literal, 0 for the first literal.
+     * @return The text of the literal as in the source, e.g. <code>'It''s'</code> or <code>-2.5</code>.
+     */
+    public String getLiteralText(int index) {
+        int i = getLiteralStartIndexes()[index];
+        Token token = getOriginalToken(i);
+        if (token.getType() == IslandSqlLexer.MINUS || token.getType() == IslandSqlLexer.PLUS) {
+            return token.getText() + getOriginalToken(nextLiteralToken(i)).getText();
+        }
+        return token.getText();
+    }
+
+    /**
+     * Gets the token type of a literal.
+     *
+     * @param index The index of the literal, 0 for the first literal.
+     * @return The token type, NUMBER, STRING or K_NULL.
+     */
+    public int getLiteralType(int index) {
+        int i = getLiteralStartIndexes()[index];
+        Token token = getOriginalToken(i);
+        if (token.getType() == IslandSqlLexer.MINUS || token.getType() == IslandSqlLexer.PLUS) {
+            return IslandSqlLexer.NUMBER;
+        }
+        return token.getType();
+    }
+
+    /**
+     * Checks if a literal is null.
+     *
+     * @param index The index of the literal, 0 for the first literal.
+     * @return Returns true if the literal is null.
+     */
+    public boolean isNull(int index) {
+        return getLiteralType(index) == IslandSqlLexer.K_NULL;
+    }
+
+    /**
+     * Gets the value of a numeric literal. Handles float and double suffixes and
+     * PostgreSQL hexadecimal, octal and binary integers.
+     *
+     * @param index The index of the literal, 0 for the first literal.
+     * @return The value of the number.
+     * @throws IllegalStateException when the literal is not a number.
+     */
+    public BigDecimal getNumber(int index) {
+        if (getLiteralType(index) != IslandSqlLexer.NUMBER) {
+            throw new IllegalStateException("Literal " + index + " is not a number: " + getLiteralText(index));
+        }
+        String text = getLiteralText(index).toLowerCase().replace("_", "");
+        boolean negative = text.startsWith("-");
+        if (negative || text.startsWith("+")) {
+            text = text.substring(1);
+        }
+        BigDecimal value;
+        if (text.startsWith("0x")) {
+            value = new BigDecimal(new BigInteger(text.substring(2), 16));
+        } else if (text.startsWith("0o")) {
+            value = new BigDecimal(new BigInteger(text.substring(2), 8));
+        } else if (text.startsWith("0b")) {
+            value = new BigDecimal(new BigInteger(text.substring(2), 2));
+        } else {
+            if (text.endsWith("f") || text.endsWith("d")) {
+                text = text.substring(0, text.length() - 1);
+            }
+            value = new BigDecimal(text);
+        }
+        return negative ? value.negate() : value;
+    }
+
+    /**
+     * Gets the value of a string literal without the enclosing single quotes.
+     * Two consecutive single quotes are returned as one single quote.
+     *
+     * @param index The index of the literal, 0 for the first literal.
+     * @return The value of the string.
+     * @throws IllegalStateException when the literal is not a string.
+     */
+    public String getString(int index) {
+        if (getLiteralType(index) != IslandSqlLexer.STRING) {
+            throw new IllegalStateException("Literal " + index + " is not a string: " + getLiteralText(index));
+        }
+        String text = getLiteralText(index);
+        return text.substring(1, text.length() - 1).replace("''", "'");
+    }
+
+    /**
+     * Gets the original token at a position of the list.
+     *
+     * @param tokenIndex The index of the token in the token stream.
+     * @return The token produced by the lexer.
+     */
+    private Token getOriginalToken(int tokenIndex) {
+        return tokenIndex == getTokenIndex() ? firstToken : tokens.get(tokenIndex);
+    }
+
+    /**
+     * Gets the index of the next token of a literal, skipping whitespace and comments.
+     *
+     * @param tokenIndex The index of the current token.
+     * @return The index of the next token that is part of a literal or a comma.
+     */
+    private int nextLiteralToken(int tokenIndex) {
+        int i = tokenIndex + 1;
+        while (i < lastTokenIndex && !isListToken(tokens.get(i).getType())) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Checks if a token type is part of a literal list. Other tokens in the range
+     * are whitespace and comments.
+     *
+     * @param type The token type.
+     * @return Returns true if the token type is a literal, a sign or a comma.
+     */
+    private static boolean isListToken(int type) {
+        return type == IslandSqlLexer.NUMBER || type == IslandSqlLexer.STRING || type == IslandSqlLexer.K_NULL
+                || type == IslandSqlLexer.MINUS || type == IslandSqlLexer.PLUS || type == IslandSqlLexer.COMMA;
+    }
+
+    /**
+     * Gets the token indexes of the first token of every literal, determined on first use.
+     *
+     * @return The token indexes of the literals.
+     */
+    private int[] getLiteralStartIndexes() {
+        int[] indexes = literalStartIndexes;
+        if (indexes == null) {
+            indexes = new int[count];
+            int pos = 0;
+            boolean expectLiteral = true;
+            for (int i = getTokenIndex(); i <= lastTokenIndex && pos < count; i++) {
+                int type = getOriginalToken(i).getType();
+                if (type == IslandSqlLexer.COMMA) {
+                    expectLiteral = true;
+                } else if (expectLiteral && isListToken(type)) {
+                    indexes[pos++] = i;
+                    expectLiteral = false;
+                }
+            }
+            literalStartIndexes = indexes;
+        }
+        return indexes;
+    }
+}
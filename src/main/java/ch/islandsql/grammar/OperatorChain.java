@@ -0,0 +1,193 @@
+/*
+ * Copyright 2026 Philipp Salvisberg <philipp.salvisberg@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.islandsql.grammar;
+
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.atn.ATNState;
+import org.antlr.v4.runtime.atn.StarLoopEntryState;
+import org.antlr.v4.runtime.tree.ParseTree;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Chains of binary operators with the same operator in the rule expression, such as
+ * <code>a + b + c</code>, <code>a || b || c</code> or <code>a and b and c</code>.
+ * The left-recursive rule produces a nested context per operator, for example
+ * <code>((a + b) + c)</code>. A flattened chain is a single context with all operands and operators
+ * as children, for example <code>(a + b + c)</code>. The operators are left-associative, hence
+ * the semantics are the same. In a flattened chain left is the first operand, operator the last operator
+ * and right the last operand. All operands are available via the expression accessor of the context.
+ */
+final class OperatorChain {
+    private static final int LOOP_DECISION = getLoopDecision();
+
+    /**
+     * Constructor. Not used, all methods are static.
+     */
+    private OperatorChain() {
+    }
+
+    /**
+     * Gets the decision of the precedence loop in the rule expression,
+     * that continues a chain with another operator or exits the loop.
+     *
+     * @return The decision number.
+     */
+    private static int getLoopDecision() {
+        for (ATNState state : IslandSqlParser._ATN.decisionToState) {
+            if (state instanceof StarLoopEntryState && ((StarLoopEntryState) state).isPrecedenceDecision
+                    && state.ruleIndex == IslandSqlParser.RULE_expression) {
+                return ((StarLoopEntryState) state).decision;
+            }
+        }
+        throw new IllegalStateException("Precedence loop of rule expression not found.");
+    }
+
+    /**
+     * Checks if a decision is the precedence loop in the rule expression.
+     *
+     * @param decision The decision number.
+     * @return Returns true if the decision continues or exits a chain of operators.
+     */
+    static boolean isLoopDecision(int decision) {
+        return decision == LOOP_DECISION;
+    }
+
+    /**
+     * Gets the operator of a context that can be part of a chain.
+     *
+     * @param ctx The context to check.
+     * @return The normalized operator token type, -1 if the context cannot be part of a chain.
+     */
+    static int getOperatorType(ParserRuleContext ctx) {
+        Token operator = null;
+        if (ctx instanceof IslandSqlParser.AdditionExpressionContext) {
+            operator = ((IslandSqlParser.AdditionExpressionContext) ctx).operator;
+        } else if (ctx instanceof IslandSqlParser.SubstractionExpressionContext) {
+            operator = ((IslandSqlParser.SubstractionExpressionContext) ctx).operator;
+        } else if (ctx instanceof IslandSqlParser.MultiplicationExpressionContext) {
+            operator = ((IslandSqlParser.MultiplicationExpressionContext) ctx).operator;
+        } else if (ctx instanceof IslandSqlParser.DivisionExpressionContext) {
+            operator = ((IslandSqlParser.DivisionExpressionContext) ctx).operator;
+        } else if (ctx instanceof IslandSqlParser.ModuloExpressionContext) {
+            operator = ((IslandSqlParser.ModuloExpressionContext) ctx).operator;
+        } else if (ctx instanceof IslandSqlParser.ConcatenationExpressionContext) {
+            operator = ((IslandSqlParser.ConcatenationExpressionContext) ctx).operator;
+        } else if (ctx instanceof IslandSqlParser.LogicalConditionContext) {
+            operator = ((IslandSqlParser.LogicalConditionContext) ctx).operator;
+        }
+        return operator != null ? normalize(operator.getType()) : -1;
+    }
+
+    /**
+     * Normalizes operator token types with the same meaning.
+     *
+     * @param type The token type.
+     * @return The normalized token type.
+     */
+    private static int normalize(int type) {
+        if (type == IslandSqlParser.VERBAR) {
+            // first token of "| |", comments and whitespace between the vertical bars
+            return IslandSqlParser.VERBAR_VERBAR;
+        }
+        if (type == IslandSqlParser.K_MOD) {
+            return IslandSqlParser.PERCNT;
+        }
+        return type;
+    }
+
+    /**
+     * Determines if a new context of the rule expression continues the chain of the previous context.
+     *
+     * @param previous The previous context, the left operand of the new context.
+     * @param ctx      The new context.
+     * @param operator The token type of the operator of the new context.
+     * @return Returns true if both contexts have the same type and operator.
+     */
+    static boolean continues(ParserRuleContext previous, ParserRuleContext ctx, int operator) {
+        if (previous == null || previous.getClass() != ctx.getClass()) {
+            return false;
+        }
+        int type = getOperatorType(previous);
+        return type >= 0 && type == normalize(operator);
+    }
+
+    /**
+     * Flattens the chain ending with the given context. Does nothing if the left operand
+     * does not continue the chain. Visits every context of the chain once, hence the
+     * runtime is linear to the length of the chain.
+     *
+     * @param ctx The last context of the chain, the root of the nested contexts.
+     */
+    static void flatten(ParserRuleContext ctx) {
+        int type = getOperatorType(ctx);
+        if (type < 0) {
+            return;
+        }
+        Deque<ParserRuleContext> chain = new ArrayDeque<>();
+        ParserRuleContext current = ctx;
+        while (current.getChildCount() > 0 && current.getChild(0) instanceof ParserRuleContext
+                && current.getChild(0).getClass() == ctx.getClass()
+                && getOperatorType((ParserRuleContext) current.getChild(0)) == type) {
+            chain.push(current);
+            current = (ParserRuleContext) current.getChild(0);
+        }
+        if (chain.isEmpty()) {
+            return;
+        }
+        List<ParseTree> children = new ArrayList<>(current.children);
+        while (!chain.isEmpty()) {
+            List<ParseTree> operatorAndOperand = chain.pop().children;
+            children.addAll(operatorAndOperand.subList(1, operatorAndOperand.size()));
+        }
+        for (ParseTree child : children) {
+            child.setParent(ctx);
+        }
+        ctx.children = children;
+        if (children.get(0) instanceof IslandSqlParser.ExpressionContext) {
+            setLeft(ctx, (IslandSqlParser.ExpressionContext) children.get(0));
+        }
+    }
+
+    /**
+     * Sets the left operand of a flattened chain.
+     *
+     * @param ctx  The flattened chain.
+     * @param left The first operand.
+     */
+    private static void setLeft(ParserRuleContext ctx, IslandSqlParser.ExpressionContext left) {
+        if (ctx instanceof IslandSqlParser.AdditionExpressionContext) {
+            ((IslandSqlParser.AdditionExpressionContext) ctx).left = left;
+        } else if (ctx instanceof IslandSqlParser.SubstractionExpressionContext) {
+            ((IslandSqlParser.SubstractionExpressionContext) ctx).left = left;
+        } else if (ctx instanceof IslandSqlParser.MultiplicationExpressionContext) {
+            ((IslandSqlParser.MultiplicationExpressionContext) ctx).left = left;
+        } else if (ctx instanceof IslandSqlParser.DivisionExpressionContext) {
+            ((IslandSqlParser.DivisionExpressionContext) ctx).left = left;
+        } else if (ctx instanceof IslandSqlParser.ModuloExpressionContext) {
+            ((IslandSqlParser.ModuloExpressionContext) ctx).left = left;
+        } else if (ctx instanceof IslandSqlParser.ConcatenationExpressionContext) {
+            ((IslandSqlParser.ConcatenationExpressionContext) ctx).left = left;
+        } else if (ctx instanceof IslandSqlParser.LogicalConditionContext) {
+            ((IslandSqlParser.LogicalConditionContext) ctx).left = left;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026 Philipp Salvisberg <philipp.salvisberg@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.islandsql.grammar;
+
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Token;
+
+/**
+ * Statement that has not been parsed. It covers the token range of the statement without children.
+ * Used for statements exceeding a resource budget, to keep memory and runtime predictable.
+ */
+public class ShallowStatementContext extends IslandSqlParser.StatementContext {
+    private final String reason;
+
+    /**
+     * Constructor.
+     *
+     * @param parent The parent context, usually file.
+     * @param start  The first token of the statement.
+     * @param stop   The last token of the statement.
+     * @param reason The reason why the statement has not been parsed.
+     */
+    public ShallowStatementContext(ParserRuleContext parent, Token start, Token stop, String reason) {
+        super(parent, -1);
+        this.start = start;
+        this.stop = stop;
+        this.reason = reason;
+    }
+
+    /**
+     * Gets the reason why the statement has not been parsed.
+     *
+     * @return The reason, e.g. the exceeded budget.
+     */
+    public String getReason() {
+        return reason;
+    }
+
+    /**
+     * Gets the text of all visible tokens of the statement, like the text of a parsed statement.
+     *
+     * @return The text of the statement without hidden tokens.
+     */
+    @Override
+    public String getText() {
+        CommonTokenStream tokenStream = getTokenStream();
+        if (tokenStream == null || start == null || stop == null) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder();
+        for (int i = start.getTokenIndex(); i <= stop.getTokenIndex(); i++) {
+            Token token = tokenStream.get(i);
+            if (token.getChannel() == Token.DEFAULT_CHANNEL && token.getType() != Token.EOF) {
+                sb.append(token.getText());
+            }
+        }
+        return sb.toString();
+    }
+}
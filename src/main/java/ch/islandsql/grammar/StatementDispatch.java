@@ -0,0 +1,165 @@
+/*
+ * Copyright 2026 Philipp Salvisberg <philipp.salvisberg@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.islandsql.grammar;
+
+import org.antlr.v4.runtime.atn.ATN;
+import org.antlr.v4.runtime.atn.ATNState;
+import org.antlr.v4.runtime.atn.BasicBlockStartState;
+import org.antlr.v4.runtime.atn.DecisionState;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Alternatives to be chosen for a top-level statement based on its kind determined by the IslandSqlScopeLexer.
+ * For example, a statement of kind CREATE_PACKAGE chooses ddlStatement in the rule statement without
+ * adaptive prediction. The alternatives are derived from the parser ATN. Only the decisions
+ * of the rules between statement and the rule of the kind are covered, the rest is predicted as usual.
+ * State, decision and alternative numbers are the same in all dialect-specialized ATNs.
+ */
+final class StatementDispatch {
+    private static final StatementDispatch INSTANCE = new StatementDispatch(IslandSqlParser._ATN);
+    private static final int MAX_DEPTH = 3;
+
+    private final int[][] decisions;
+    private final int[][] alts;
+
+    /**
+     * Constructor. Determines the alternatives for every statement kind.
+     *
+     * @param atn The ATN of the parser.
+     */
+    private StatementDispatch(ATN atn) {
+        String[] ruleNamesByKind = getRuleNamesByKind();
+        List<String> ruleNames = Arrays.asList(IslandSqlParser.ruleNames);
+        decisions = new int[ruleNamesByKind.length][];
+        alts = new int[ruleNamesByKind.length][];
+        for (int kind = 0; kind < ruleNamesByKind.length; kind++) {
+            if (ruleNamesByKind[kind] != null) {
+                int ruleIndex = ruleNames.indexOf(ruleNamesByKind[kind]);
+                assert ruleIndex >= 0 : "Rule " + ruleNamesByKind[kind] + " does not exist.";
+                List<int[]> path = new ArrayList<>();
+                if (findPath(atn, IslandSqlParser.RULE_statement, ruleIndex, path, 0)) {
+                    decisions[kind] = new int[path.size()];
+                    alts[kind] = new int[path.size()];
+                    for (int i = 0; i < path.size(); i++) {
+                        decisions[kind][i] = path.get(i)[0];
+                        alts[kind][i] = path.get(i)[1];
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the rule to be used for every statement kind.
+     * Kinds covering several rules use the common parent rule, e.g. CREATE_PACKAGE covers
+     * package specifications and bodies. Kinds without a rule are predicted as usual.
+     *
+     * @return The rule names indexed by the token types of the IslandSqlScopeLexer.
+     */
+    private static String[] getRuleNamesByKind() {
+        String[] names = new String[IslandSqlScopeLexer.VOCABULARY.getMaxTokenType() + 1];
+        names[IslandSqlScopeLexer.CALL] = "callStatement";
+        names[IslandSqlScopeLexer.COMMIT] = "commitStatement";
+        names[IslandSqlScopeLexer.CREATE_ASSERTION] = "createAssertionStatement";
+        names[IslandSqlScopeLexer.CREATE_DIRECTIVE] = "createDirectiveStatement";
+        names[IslandSqlScopeLexer.CREATE_FUNCTION] = "createFunctionStatement";
+        names[IslandSqlScopeLexer.CREATE_JSON_RELATIONAL_DUALITY_VIEW] = "createJsonRelationalDualityViewStatement";
+        names[IslandSqlScopeLexer.CREATE_MATERIALIZED_VIEW] = "createMaterializedViewStatement";
+        names[IslandSqlScopeLexer.CREATE_PACKAGE] = "ddlStatement";
+        names[IslandSqlScopeLexer.CREATE_PROCEDURE] = "createProcedureStatement";
+        names[IslandSqlScopeLexer.CREATE_PROPERTY_GRAPH] = "createPropertyGraphStatement";
+        names[IslandSqlScopeLexer.CREATE_TABLE] = "createTableStatement";
+        names[IslandSqlScopeLexer.CREATE_TRIGGER_POSTGRESQL] = "createTriggerStatement";
+        names[IslandSqlScopeLexer.CREATE_TRIGGER] = "createTriggerStatement";
+        names[IslandSqlScopeLexer.CREATE_TYPE] = "ddlStatement";
+        names[IslandSqlScopeLexer.CREATE_VIEW] = "createViewStatement";
+        names[IslandSqlScopeLexer.DECLARE] = "postgresqlDeclareStatement";
+        names[IslandSqlScopeLexer.DELETE] = "deleteStatement";
+        names[IslandSqlScopeLexer.DO] = "doStatement";
+        names[IslandSqlScopeLexer.EXPLAIN_PLAN] = "explainPlanStatement";
+        names[IslandSqlScopeLexer.INSERT] = "insertStatement";
+        names[IslandSqlScopeLexer.LOCK_TABLE] = "lockTableStatement";
+        names[IslandSqlScopeLexer.MERGE] = "mergeStatement";
+        names[IslandSqlScopeLexer.PLSQL_BLOCK_DECLARE] = "plsqlBlockStatement";
+        // PLSQL_BLOCK_BEGIN is ambiguous, PostgreSQL uses begin to start a transaction
+        names[IslandSqlScopeLexer.ROLLBACK] = "rollbackStatement";
+        names[IslandSqlScopeLexer.SAVEPOINT] = "savepointStatement";
+        names[IslandSqlScopeLexer.SET_CONSTRAINTS] = "setConstraintsStatement";
+        names[IslandSqlScopeLexer.SET_TRANSACTION] = "setTransactionStatement";
+        names[IslandSqlScopeLexer.SELECT] = "selectStatement";
+        names[IslandSqlScopeLexer.UPDATE] = "updateStatement";
+        names[IslandSqlScopeLexer.WITH] = "dmlStatement";
+        return names;
+    }
+
+    /**
+     * Finds the alternatives leading from a rule to a target rule. The target must be the first
+     * element of the chosen alternative in every rule on the path.
+     *
+     * @param atn        The ATN of the parser.
+     * @param ruleIndex  The rule to start from.
+     * @param target     The target rule.
+     * @param path       Pairs of decision and alternative to be populated, in call order.
+     * @param depth      Number of rules on the path so far.
+     * @return Returns true if a path has been found.
+     */
+    private static boolean findPath(ATN atn, int ruleIndex, int target, List<int[]> path, int depth) {
+        if (ruleIndex == target) {
+            return true;
+        }
+        ATNState state = atn.ruleToStartState[ruleIndex].transition(0).target;
+        if (depth >= MAX_DEPTH || !(state instanceof BasicBlockStartState)) {
+            return false;
+        }
+        DecisionState decision = (DecisionState) state;
+        for (int i = 0; i < decision.getNumberOfTransitions(); i++) {
+            int firstRuleIndex = DialectAtn.getFirstRuleIndex(decision.transition(i).target);
+            if (firstRuleIndex >= 0) {
+                int size = path.size();
+                path.add(new int[]{decision.decision, i + 1});
+                if (findPath(atn, firstRuleIndex, target, path, depth + 1)) {
+                    return true;
+                }
+                path.subList(size, path.size()).clear();
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gets the alternative to be chosen for a decision in a top-level statement.
+     *
+     * @param kind     The kind of the statement, token type of the IslandSqlScopeLexer.
+     * @param decision The decision number.
+     * @return The alternative, 0 if the decision must be predicted.
+     */
+    static int getAlt(int kind, int decision) {
+        if (kind <= 0 || kind >= INSTANCE.decisions.length || INSTANCE.decisions[kind] == null) {
+            return 0;
+        }
+        int[] kindDecisions = INSTANCE.decisions[kind];
+        for (int i = 0; i < kindDecisions.length; i++) {
+            if (kindDecisions[i] == decision) {
+                return INSTANCE.alts[kind][i];
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2026 Philipp Salvisberg <philipp.salvisberg@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.islandsql.grammar;
+
+/**
+ * Callback to process top-level statements while parsing.
+ * The parser calls the handler as soon as a statement is completed.
+ * The statement is removed from the parse tree afterwards. This releases the parse tree
+ * of the statement, but not its tokens, which are kept in the token stream of the document.
+ * Statements which are not completed, e.g. due to a syntax error at the statement level,
+ * a statement recovery or a cancellation, are kept in the parse tree instead.
+ */
+@FunctionalInterface
+public interface StatementHandler {
+    /**
+     * Processes a completed top-level statement including its subtrees.
+     * The statement is detached from file after this call. It can be garbage collected
+     * unless the handler keeps a reference.
+     *
+     * @param statement The completed statement, a {@link ShallowStatementContext} if it exceeded a budget.
+     */
+    void handle(IslandSqlParser.StatementContext statement);
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026 Philipp Salvisberg <philipp.salvisberg@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.islandsql.grammar;
+
+import org.antlr.v4.runtime.CommonToken;
+import org.antlr.v4.runtime.Token;
+
+/**
+ * Token of type SUBPROGRAM standing for a function or procedure definition in a package body,
+ * which has been parsed in advance. It replaces the first token of the definition while the
+ * main parser runs. The main parser replaces the token by the parse tree of the definition and
+ * continues after the last token of the definition.
+ * See {@link IslandSqlDocument.Builder#subprogramThreads(int)}.
+ */
+public class SubprogramToken extends CommonToken {
+    private static final long serialVersionUID = 1L;
+    private final Token originalToken;
+    private final int lastTokenIndex;
+    private final IslandSqlParser.ItemlistItemContext item;
+
+    /**
+     * Constructor.
+     *
+     * @param originalToken  The first token of the definition, replaced by this token.
+     * @param lastTokenIndex The index of the last token of the definition.
+     * @param item           The parse tree of the definition.
+     */
+    public SubprogramToken(Token originalToken, int lastTokenIndex, IslandSqlParser.ItemlistItemContext item) {
+        super(originalToken);
+        this.originalToken = originalToken;
+        this.lastTokenIndex = lastTokenIndex;
+        this.item = item;
+        setType(IslandSqlParser.SUBPROGRAM);
+        setText(null);
+        setStopIndex(item.stop.getStopIndex());
+    }
+
+    /**
+     * Gets the first token of the definition.
+     *
+     * @return The token produced by the lexer.
+     */
+    public Token getOriginalToken() {
+        return originalToken;
+    }
+
+    /**
+     * Gets the index of the last token of the definition.
+     *
+     * @return The index of the last token of the definition.
+     */
+    public int getLastTokenIndex() {
+        return lastTokenIndex;
+    }
+
+    /**
+     * Gets the parse tree of the definition.
+     *
+     * @return The context containing the function or procedure definition.
+     */
+    public IslandSqlParser.ItemlistItemContext getItem() {
+        return item;
+    }
+}
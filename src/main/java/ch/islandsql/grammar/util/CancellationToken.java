@@ -0,0 +1,141 @@
+/*
+ * Copyright 2026 Philipp Salvisberg <philipp.salvisberg@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.islandsql.grammar.util;
+
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+
+import java.time.Duration;
+
+/**
+ * Token to cancel lexing and parsing cooperatively.
+ * The lexers and the parser check the token regularly and stop with a
+ * {@link ParseCancellationException} when the token is cancelled or the deadline is exceeded.
+ * A token can be cancelled from any thread.
+ * A token can be linked to a parent token. It is cancelled when the parent token is cancelled,
+ * while its own deadline and cancellation do not affect the parent token.
+ */
+public class CancellationToken {
+    private final CancellationToken parent;
+    private volatile boolean cancelled = false;
+    private volatile long deadline = 0;
+    private volatile boolean hasDeadline = false;
+    private volatile boolean triggered = false;
+    private volatile String reason = null;
+
+    /**
+     * Constructor. Creates a token without parent.
+     */
+    public CancellationToken() {
+        this(null);
+    }
+
+    /**
+     * Constructor. Creates a token linked to a parent token.
+     *
+     * @param parent The token cancelling this token, null if none.
+     */
+    public CancellationToken(CancellationToken parent) {
+        this.parent = parent;
+    }
+
+    /**
+     * Cancels the token. Running lexers and parsers stop at the next check.
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    /**
+     * Cancels the token with a reason. Running lexers and parsers stop at the next check.
+     *
+     * @param reason The reason to be reported as syntax error.
+     */
+    public void cancel(String reason) {
+        this.reason = reason;
+        cancelled = true;
+    }
+
+    /**
+     * Sets a deadline relative to now. The token is cancelled when the deadline is exceeded.
+     *
+     * @param timeout The maximum duration from now, null to remove the deadline.
+     */
+    public void setDeadline(Duration timeout) {
+        if (timeout == null) {
+            hasDeadline = false;
+        } else {
+            deadline = System.nanoTime() + timeout.toNanos();
+            hasDeadline = true;
+        }
+    }
+
+    /**
+     * Determines if the deadline has been exceeded.
+     *
+     * @return Returns true if a deadline is set and exceeded.
+     */
+    public boolean isTimedOut() {
+        return hasDeadline && System.nanoTime() - deadline > 0;
+    }
+
+    /**
+     * Determines if the token is cancelled explicitly or due to an exceeded deadline.
+     *
+     * @return Returns true if lexing and parsing should stop.
+     */
+    public boolean isCancelled() {
+        return cancelled || isTimedOut() || (parent != null && parent.isCancelled());
+    }
+
+    /**
+     * Determines if a lexer or parser has stopped due to this token.
+     * A parent token is triggered as well, if it caused the stop.
+     *
+     * @return Returns true if a check has thrown a {@link ParseCancellationException}.
+     */
+    public boolean isTriggered() {
+        return triggered;
+    }
+
+    /**
+     * Throws a {@link ParseCancellationException} if the token is cancelled.
+     */
+    public void check() {
+        if (isCancelled()) {
+            triggered = true;
+            if (!cancelled && !isTimedOut()) {
+                parent.triggered = true;
+            }
+            throw new ParseCancellationException(getMessage());
+        }
+    }
+
+    /**
+     * Gets the message to be reported as syntax error when the token is cancelled.
+     *
+     * @return The reason for the cancellation.
+     */
+    public String getMessage() {
+        if (reason != null && cancelled) {
+            return reason;
+        }
+        if (!cancelled && !isTimedOut() && parent != null && parent.isCancelled()) {
+            return parent.getMessage();
+        }
+        return isTimedOut() ? "parse timeout, deadline exceeded" : "parse cancelled";
+    }
+}
@@ -138,18 +138,17 @@ public class DotRuleListener implements ParseTreeListener {
         sb.append('"');
         sb.append("]");
         sb.append(NL);
-        if (ctx.children != null) {
-            for (ParseTree parseTree : ctx.children) {
-                sb.append("  ");
-                sb.append('"');
-                sb.append(ctx.hashCode());
-                sb.append('"');
-                sb.append(" -> ");
-                sb.append('"');
-                sb.append(parseTree.hashCode());
-                sb.append('"');
-                sb.append(NL);
-            }
+        for (int i = 0; i < ctx.getChildCount(); i++) {
+            ParseTree parseTree = ctx.getChild(i);
+            sb.append("  ");
+            sb.append('"');
+            sb.append(ctx.hashCode());
+            sb.append('"');
+            sb.append(" -> ");
+            sb.append('"');
+            sb.append(parseTree.hashCode());
+            sb.append('"');
+            sb.append(NL);
         }
     }
 
@@ -31,6 +31,7 @@ import java.util.List;
 public class FindRuleListener implements ParseTreeListener {
     private final List<ParseTree> result;
     private final List<Class<? extends ParseTree>> desiredTypes;
+    private final RuleTypeMatcher matcher;
 
     /**
      * Constructor.
@@ -40,6 +41,7 @@ public class FindRuleListener implements ParseTreeListener {
     FindRuleListener(List<Class<? extends ParseTree>> desiredTypes) {
         this.result = new ArrayList<>();
         this.desiredTypes = desiredTypes;
+        this.matcher = new RuleTypeMatcher(desiredTypes);
     }
 
     /**
@@ -49,6 +51,9 @@ public class FindRuleListener implements ParseTreeListener {
      */
     @Override
     public void visitTerminal(TerminalNode node) {
+        if (!matcher.mayMatch(node)) {
+            return;
+        }
         for (Class<? extends ParseTree> desiredType : desiredTypes) {
             if (desiredType.isInstance(node)) {
                 result.add(node);
@@ -63,6 +68,9 @@ public class FindRuleListener implements ParseTreeListener {
      */
     @Override
     public void visitErrorNode(ErrorNode node) {
+        if (!matcher.mayMatch(node)) {
+            return;
+        }
         for (Class<? extends ParseTree> desiredType : desiredTypes) {
             if (desiredType.isInstance(node)) {
                 result.add(node);
@@ -77,6 +85,10 @@ public class FindRuleListener implements ParseTreeListener {
      */
     @Override
     public void enterEveryRule(ParserRuleContext ctx) {
+        if (!matcher.mayMatch(ctx)) {
+            // rule index does not match any desired type
+            return;
+        }
         for (Class<? extends ParseTree> desiredType : desiredTypes) {
             if (desiredType.isInstance(ctx)) {
                 result.add(ctx);
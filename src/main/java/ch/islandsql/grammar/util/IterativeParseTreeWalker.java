@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026 Philipp Salvisberg <philipp.salvisberg@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.islandsql.grammar.util;
+
+import org.antlr.v4.runtime.tree.ErrorNode;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.ParseTreeListener;
+import org.antlr.v4.runtime.tree.ParseTreeWalker;
+import org.antlr.v4.runtime.tree.RuleNode;
+import org.antlr.v4.runtime.tree.TerminalNode;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Drop-in replacement for {@link ParseTreeWalker} that does not use recursion.
+ * The listener receives the same events in the same order. The depth of the
+ * parse tree is limited by the heap only, hence deeply nested parse trees
+ * do not lead to a StackOverflowError.
+ */
+public class IterativeParseTreeWalker extends ParseTreeWalker {
+    /**
+     * Shared instance. The walker is stateless and can be used concurrently.
+     */
+    public static final IterativeParseTreeWalker DEFAULT = new IterativeParseTreeWalker();
+
+    /**
+     * Walks the parse tree in depth-first order and notifies the listener.
+     *
+     * @param listener The listener to be notified.
+     * @param t        Start node.
+     */
+    @Override
+    public void walk(ParseTreeListener listener, ParseTree t) {
+        List<ParseTree> stack = new ArrayList<>();
+        List<Boolean> exits = new ArrayList<>();
+        stack.add(t);
+        exits.add(false);
+        while (!stack.isEmpty()) {
+            ParseTree node = stack.remove(stack.size() - 1);
+            boolean exit = exits.remove(exits.size() - 1);
+            if (exit) {
+                exitRule(listener, (RuleNode) node);
+            } else if (node instanceof ErrorNode) {
+                listener.visitErrorNode((ErrorNode) node);
+            } else if (node instanceof TerminalNode) {
+                listener.visitTerminal((TerminalNode) node);
+            } else {
+                RuleNode ruleNode = (RuleNode) node;
+                enterRule(listener, ruleNode);
+                stack.add(ruleNode);
+                exits.add(true);
+                for (int i = ruleNode.getChildCount() - 1; i >= 0; i--) {
+                    stack.add(ruleNode.getChild(i));
+                    exits.add(false);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright 2026 Philipp Salvisberg <philipp.salvisberg@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.islandsql.grammar.util;
+
+import ch.islandsql.grammar.IslandSqlParser;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.tree.ErrorNode;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.ParseTreeListener;
+import org.antlr.v4.runtime.tree.TerminalNode;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Walks a parse tree once and dispatches the events to many listeners.
+ * <p>
+ * A listener registered without rule indexes receives all events, the same way
+ * as with {@link org.antlr.v4.runtime.tree.ParseTreeWalker}. A listener registered
+ * with rule indexes receives only enter and exit events of rule contexts with these
+ * rule indexes, including their labeled alternatives. It does not receive events
+ * for terminal nodes. Listeners are notified in the order of their registration.
+ * </p>
+ * <p>
+ * The parse tree is walked without recursion, hence deeply nested parse trees do not
+ * lead to a StackOverflowError.
+ * </p>
+ */
+public class MultiplexTreeWalker {
+    private final List<ParseTreeListener> listeners = new ArrayList<>();
+    private final List<BitSet> subscriptions = new ArrayList<>();
+    private ParseTreeListener[][] listenersByRuleIndex;
+    private ParseTreeListener[] allEventListeners;
+
+    /**
+     * Registers a listener for all events.
+     *
+     * @param listener The listener to be notified.
+     * @return The walker instance.
+     */
+    public MultiplexTreeWalker addListener(ParseTreeListener listener) {
+        listeners.add(listener);
+        subscriptions.add(null);
+        listenersByRuleIndex = null;
+        return this;
+    }
+
+    /**
+     * Registers a listener for enter and exit events of the passed rule indexes.
+     *
+     * @param listener    The listener to be notified.
+     * @param ruleIndexes Rule indexes of interest, e.g. {@code IslandSqlParser.RULE_queryBlock}.
+     * @return The walker instance.
+     */
+    public MultiplexTreeWalker addListener(ParseTreeListener listener, int... ruleIndexes) {
+        BitSet subscription = new BitSet();
+        for (int ruleIndex : ruleIndexes) {
+            subscription.set(ruleIndex);
+        }
+        listeners.add(listener);
+        subscriptions.add(subscription);
+        listenersByRuleIndex = null;
+        return this;
+    }
+
+    /**
+     * Builds the dispatch tables based on the registered listeners.
+     */
+    private synchronized void prepare() {
+        if (listenersByRuleIndex != null) {
+            return;
+        }
+        ParseTreeListener[][] byRuleIndex = new ParseTreeListener[IslandSqlParser.ruleNames.length][];
+        for (int ruleIndex = 0; ruleIndex < byRuleIndex.length; ruleIndex++) {
+            List<ParseTreeListener> ruleListeners = new ArrayList<>();
+            for (int i = 0; i < listeners.size(); i++) {
+                if (subscriptions.get(i) == null || subscriptions.get(i).get(ruleIndex)) {
+                    ruleListeners.add(listeners.get(i));
+                }
+            }
+            byRuleIndex[ruleIndex] = ruleListeners.toArray(new ParseTreeListener[0]);
+        }
+        List<ParseTreeListener> allEvents = new ArrayList<>();
+        for (int i = 0; i < listeners.size(); i++) {
+            if (subscriptions.get(i) == null) {
+                allEvents.add(listeners.get(i));
+            }
+        }
+        allEventListeners = allEvents.toArray(new ParseTreeListener[0]);
+        listenersByRuleIndex = byRuleIndex;
+    }
+
+    /**
+     * Walks the parse tree and notifies all registered listeners.
+     *
+     * @param parseTree Start node.
+     */
+    public void walk(ParseTree parseTree) {
+        prepare();
+        walkNode(parseTree);
+    }
+
+    /**
+     * Walks the parse tree and notifies all registered listeners.
+     * The children of the start node, e.g. the top-level statements of a file, are walked
+     * concurrently in the passed pool. The events of a child are delivered in order on a single thread.
+     * The events of the start node are delivered on the calling thread before and after all children.
+     * Listeners must be thread-safe.
+     *
+     * @param parseTree Start node.
+     * @param pool      The pool used to walk the children concurrently.
+     */
+    public void walkParallel(ParseTree parseTree, ForkJoinPool pool) {
+        prepare();
+        if (parseTree instanceof ParserRuleContext) {
+            ParserRuleContext ctx = (ParserRuleContext) parseTree;
+            enterRule(ctx);
+            List<ForkJoinTask<?>> tasks = new ArrayList<>();
+            for (int i = 0; i < ctx.getChildCount(); i++) {
+                ParseTree child = ctx.getChild(i);
+                tasks.add(pool.submit(() -> walkNode(child)));
+            }
+            for (ForkJoinTask<?> task : tasks) {
+                task.join();
+            }
+            exitRule(ctx);
+        } else {
+            walkNode(parseTree);
+        }
+    }
+
+    /**
+     * Walks a subtree iteratively.
+     *
+     * @param parseTree Start node.
+     */
+    private void walkNode(ParseTree parseTree) {
+        List<ParseTree> stack = new ArrayList<>();
+        List<Boolean> exits = new ArrayList<>();
+        stack.add(parseTree);
+        exits.add(false);
+        while (!stack.isEmpty()) {
+            ParseTree node = stack.remove(stack.size() - 1);
+            boolean exit = exits.remove(exits.size() - 1);
+            if (exit) {
+                exitRule((ParserRuleContext) node);
+            } else if (node instanceof ErrorNode) {
+                for (ParseTreeListener listener : allEventListeners) {
+                    listener.visitErrorNode((ErrorNode) node);
+                }
+            } else if (node instanceof TerminalNode) {
+                for (ParseTreeListener listener : allEventListeners) {
+                    listener.visitTerminal((TerminalNode) node);
+                }
+            } else {
+                ParserRuleContext ctx = (ParserRuleContext) node;
+                enterRule(ctx);
+                stack.add(ctx);
+                exits.add(true);
+                for (int i = ctx.getChildCount() - 1; i >= 0; i--) {
+                    stack.add(ctx.getChild(i));
+                    exits.add(false);
+                }
+            }
+        }
+    }
+
+    private ParseTreeListener[] getRuleListeners(ParserRuleContext ctx) {
+        int ruleIndex = ctx.getRuleIndex();
+        return ruleIndex >= 0 && ruleIndex < listenersByRuleIndex.length ? listenersByRuleIndex[ruleIndex] : allEventListeners;
+    }
+
+    private void enterRule(ParserRuleContext ctx) {
+        for (ParseTreeListener listener : getRuleListeners(ctx)) {
+            listener.enterEveryRule(ctx);
+            ctx.enterRule(listener);
+        }
+    }
+
+    private void exitRule(ParserRuleContext ctx) {
+        for (ParseTreeListener listener : getRuleListeners(ctx)) {
+            ctx.exitRule(listener);
+            listener.exitEveryRule(ctx);
+        }
+    }
+}
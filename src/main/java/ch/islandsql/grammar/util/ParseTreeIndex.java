@@ -0,0 +1,289 @@
+/*
+ * Copyright 2026 Philipp Salvisberg <philipp.salvisberg@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.islandsql.grammar.util;
+
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.tree.ParseTree;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Index of all nodes in a parse tree by their class and rule index.
+ * <p>
+ * The index is built in a single traversal. Afterwards, queries for nodes of a
+ * desired type are lookups and do not walk the parse tree anymore. The results are
+ * in the same order as produced by {@link ParseTreeUtil#getAllContentsOfType(ParseTree, Class)}.
+ * </p>
+ * <p>
+ * The index represents the parse tree at the time of construction. It does not
+ * reflect subsequent changes to the parse tree. Build a new instance after
+ * changing the parse tree.
+ * </p>
+ */
+public class ParseTreeIndex {
+    private final ParseTree root;
+    private final int size;
+    private final Map<ParseTree, Integer> positions = new IdentityHashMap<>();
+    private final int[] subtreeEnds;
+    private final Map<Class<?>, NodeList> nodesByClass = new LinkedHashMap<>();
+    private final Map<Integer, NodeList> nodesByRuleIndex = new LinkedHashMap<>();
+    private final Map<Class<?>, NodeList> cache = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor. Builds the index for all nodes of a parse tree.
+     *
+     * @param root The start node.
+     */
+    public ParseTreeIndex(ParseTree root) {
+        this.root = root;
+        List<Integer> ends = new ArrayList<>();
+        List<ParseTree> stack = new ArrayList<>(); // null entries mark the end of a subtree
+        Deque<Integer> openPositions = new ArrayDeque<>();
+        stack.add(root);
+        int pos = 0;
+        while (!stack.isEmpty()) {
+            ParseTree node = stack.remove(stack.size() - 1);
+            if (node == null) {
+                // marker to close the subtree of the most recently opened rule context
+                ends.set(openPositions.pop(), pos);
+                continue;
+            }
+            ends.add(pos + 1);
+            if (node instanceof ParserRuleContext) {
+                positions.put(node, pos);
+                openPositions.push(pos);
+                stack.add(null);
+                for (int i = node.getChildCount() - 1; i >= 0; i--) {
+                    stack.add(node.getChild(i));
+                }
+                nodesByRuleIndex.computeIfAbsent(((ParserRuleContext) node).getRuleIndex(), k -> new NodeList()).add(pos, node);
+            }
+            nodesByClass.computeIfAbsent(node.getClass(), k -> new NodeList()).add(pos, node);
+            pos++;
+        }
+        this.size = pos;
+        this.subtreeEnds = ends.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Gets the start node of the index.
+     *
+     * @return The start node.
+     */
+    public ParseTree getRoot() {
+        return root;
+    }
+
+    /**
+     * Gets the number of indexed nodes including the start node.
+     *
+     * @return The number of indexed nodes.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Determines if a node is part of this index.
+     *
+     * @param parseTree The node to be checked.
+     * @return Returns true if the node is a rule context that has been indexed.
+     */
+    public boolean contains(ParseTree parseTree) {
+        return positions.containsKey(parseTree);
+    }
+
+    /**
+     * Gets all nodes that are instances of the desired class.
+     * The start node of the index is not part of the result.
+     *
+     * @param desiredType Desired class (must be a descendant of ParseTree).
+     * @param <T>         The return type of the result.
+     * @return List of nodes that are instances of the of desired class.
+     */
+    public <T extends ParseTree> List<T> getAllContentsOfType(Class<T> desiredType) {
+        return getAllContentsOfType(root, desiredType);
+    }
+
+    /**
+     * Gets all nodes that are instances of the desired class.
+     * Start node can be any rule context in the index. The start node is not part of the result.
+     * Falls back to {@link ParseTreeUtil#getAllContentsOfType(ParseTree, Class)} for nodes
+     * that are not part of this index.
+     *
+     * @param parseTree   Start node.
+     * @param desiredType Desired class (must be a descendant of ParseTree).
+     * @param <T>         The return type of the result.
+     * @return List of nodes that are instances of the of desired class.
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends ParseTree> List<T> getAllContentsOfType(ParseTree parseTree, Class<T> desiredType) {
+        Integer start = positions.get(parseTree);
+        if (start == null) {
+            return ParseTreeUtil.getAllContentsOfType(parseTree, desiredType);
+        }
+        return (List<T>) getNodesOfType(desiredType).range(start + 1, subtreeEnds[start]);
+    }
+
+    /**
+     * Gets all nodes that are instances of the list of desired classes.
+     * Start node can be any rule context in the index. The start node is not part of the result.
+     * A node matching multiple desired classes is part of the result multiple times.
+     *
+     * @param parseTree    Start node.
+     * @param desiredTypes Desired classes (must be descendants of ParseTree).
+     * @return List of nodes that are instances of the of desired classes.
+     */
+    public List<? extends ParseTree> getAllContentsOfTypes(ParseTree parseTree, List<Class<? extends ParseTree>> desiredTypes) {
+        Integer start = positions.get(parseTree);
+        if (start == null) {
+            return ParseTreeUtil.getAllContentsOfTypes(parseTree, desiredTypes);
+        }
+        if (desiredTypes.size() == 1) {
+            return getNodesOfType(desiredTypes.get(0)).range(start + 1, subtreeEnds[start]);
+        }
+        List<NodeList> lists = new ArrayList<>();
+        for (Class<? extends ParseTree> desiredType : desiredTypes) {
+            lists.add(getNodesOfType(desiredType));
+        }
+        return NodeList.merge(lists).range(start + 1, subtreeEnds[start]);
+    }
+
+    /**
+     * Gets all rule contexts with the desired rule index, including labeled alternatives.
+     * The start node of the index is not part of the result.
+     *
+     * @param ruleIndex Desired rule index, e.g. {@code IslandSqlParser.RULE_sqlName}.
+     * @return List of rule contexts with the desired rule index.
+     */
+    public List<ParserRuleContext> getAllContentsOfRule(int ruleIndex) {
+        NodeList nodes = nodesByRuleIndex.get(ruleIndex);
+        if (nodes == null) {
+            return new ArrayList<>();
+        }
+        List<ParserRuleContext> result = new ArrayList<>();
+        for (ParseTree node : nodes.range(1, size)) {
+            result.add((ParserRuleContext) node);
+        }
+        return result;
+    }
+
+    /**
+     * Gets the cached nodes of a desired type in the order of a depth-first traversal.
+     * Combines the nodes of all indexed classes that are assignable to the desired type.
+     *
+     * @param desiredType Desired class.
+     * @return Positions and nodes of the desired type.
+     */
+    private NodeList getNodesOfType(Class<?> desiredType) {
+        return cache.computeIfAbsent(desiredType, type -> {
+            List<NodeList> lists = new ArrayList<>();
+            for (Map.Entry<Class<?>, NodeList> entry : nodesByClass.entrySet()) {
+                if (type.isAssignableFrom(entry.getKey())) {
+                    lists.add(entry.getValue());
+                }
+            }
+            return NodeList.merge(lists);
+        });
+    }
+
+    /**
+     * Positions and nodes ordered by position.
+     */
+    private static class NodeList {
+        private int[] positions = new int[4];
+        private ParseTree[] nodes = new ParseTree[4];
+        private int count = 0;
+
+        private void add(int position, ParseTree node) {
+            if (count == positions.length) {
+                positions = Arrays.copyOf(positions, count * 2);
+                nodes = Arrays.copyOf(nodes, count * 2);
+            }
+            positions[count] = position;
+            nodes[count] = node;
+            count++;
+        }
+
+        /**
+         * Gets the nodes in a range of positions.
+         *
+         * @param from First position (inclusive).
+         * @param to   Last position (exclusive).
+         * @return A new list with the nodes in the range.
+         */
+        private List<ParseTree> range(int from, int to) {
+            int first = lowerBound(from);
+            int last = lowerBound(to);
+            List<ParseTree> result = new ArrayList<>(Math.max(last - first, 0));
+            result.addAll(Arrays.asList(nodes).subList(first, Math.max(first, last)));
+            return result;
+        }
+
+        private int lowerBound(int position) {
+            int low = 0;
+            int high = count;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (positions[mid] < position) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * Merges lists ordered by position into a single list ordered by position.
+         *
+         * @param lists The lists to be merged.
+         * @return A list containing all nodes of the passed lists.
+         */
+        private static NodeList merge(List<NodeList> lists) {
+            if (lists.size() == 1) {
+                return lists.get(0);
+            }
+            NodeList result = new NodeList();
+            int[] indexes = new int[lists.size()];
+            while (true) {
+                int next = -1;
+                for (int i = 0; i < lists.size(); i++) {
+                    NodeList list = lists.get(i);
+                    if (indexes[i] < list.count && (next < 0
+                            || list.positions[indexes[i]] < lists.get(next).positions[indexes[next]])) {
+                        next = i;
+                    }
+                }
+                if (next < 0) {
+                    return result;
+                }
+                NodeList list = lists.get(next);
+                result.add(list.positions[indexes[next]], list.nodes[indexes[next]]);
+                indexes[next]++;
+            }
+        }
+    }
+}
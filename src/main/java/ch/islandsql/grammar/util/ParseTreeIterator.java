@@ -0,0 +1,101 @@
+/*
+ * Copyright 2026 Philipp Salvisberg <philipp.salvisberg@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.islandsql.grammar.util;
+
+import org.antlr.v4.runtime.tree.ParseTree;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Iterator over all nodes of a parse tree that match a {@link RuleTypeMatcher}.
+ * <p>
+ * The parse tree is traversed lazily in depth-first order without recursion.
+ * The traversal stops when the consumer stops calling {@link #next()}.
+ * The start node is not part of the result. Children of pruned nodes are not visited.
+ * </p>
+ *
+ * @param <T> The type of the returned nodes.
+ */
+public class ParseTreeIterator<T extends ParseTree> implements Iterator<T> {
+    private final RuleTypeMatcher matcher;
+    private final RuleTypeMatcher pruner;
+    private final List<ParseTree> stack = new ArrayList<>();
+    private ParseTree nextNode;
+
+    /**
+     * Constructor.
+     *
+     * @param parseTree Start node.
+     * @param matcher   Matcher for the nodes to be returned.
+     * @param pruner    Matcher for the nodes whose children are not visited. Null to visit all nodes.
+     */
+    public ParseTreeIterator(ParseTree parseTree, RuleTypeMatcher matcher, RuleTypeMatcher pruner) {
+        this.matcher = matcher;
+        this.pruner = pruner;
+        pushChildren(parseTree);
+    }
+
+    /**
+     * Pushes the children of a node in reverse order, so that the first child is processed next.
+     *
+     * @param node The parent node.
+     */
+    private void pushChildren(ParseTree node) {
+        for (int i = node.getChildCount() - 1; i >= 0; i--) {
+            stack.add(node.getChild(i));
+        }
+    }
+
+    /**
+     * Determines if there is another matching node.
+     * Advances the traversal up to the next matching node, if necessary.
+     *
+     * @return Returns true if there is another matching node.
+     */
+    @Override
+    public boolean hasNext() {
+        while (nextNode == null && !stack.isEmpty()) {
+            ParseTree node = stack.remove(stack.size() - 1);
+            if (pruner == null || !pruner.matches(node)) {
+                pushChildren(node);
+            }
+            if (matcher.matches(node)) {
+                nextNode = node;
+            }
+        }
+        return nextNode != null;
+    }
+
+    /**
+     * Gets the next matching node.
+     *
+     * @return The next matching node.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        T result = (T) nextNode;
+        nextNode = null;
+        return result;
+    }
+}
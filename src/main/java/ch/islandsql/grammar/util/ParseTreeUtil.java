@@ -22,7 +22,12 @@ import org.antlr.v4.runtime.tree.ParseTreeWalker;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Parse tree utilities.
@@ -38,7 +43,7 @@ public class ParseTreeUtil {
      */
     public static List<? extends ParseTree> getAllContentsOfTypes(ParseTree parseTree, List<Class<? extends ParseTree>> desiredTypes) {
         FindRuleListener listener = new FindRuleListener(desiredTypes);
-        ParseTreeWalker walker = new ParseTreeWalker();
+        ParseTreeWalker walker = IterativeParseTreeWalker.DEFAULT;
         int childCount = parseTree.getChildCount();
         for (int i = 0; i < childCount; i++) {
             walker.walk(listener, parseTree.getChild(i));
@@ -61,6 +66,107 @@ public class ParseTreeUtil {
         return (List<T>) getAllContentsOfTypes(parseTree, desiredTypes);
     }
 
+    /**
+     * Gets an iterator over all nodes that are instances of the list of desired classes.
+     * Start node can be any node in the parse tree.
+     * The parse tree is traversed lazily, only as far as the iterator is consumed.
+     * Children of nodes that are instances of the pruned classes are not visited.
+     *
+     * @param parseTree    Start node.
+     * @param desiredTypes Desired classes (must be descendants of ParseTree).
+     * @param prunedTypes  Classes of nodes whose children are not visited. Empty to visit all nodes.
+     * @param <T>          The return type of the result.
+     * @return Iterator over nodes that are instances of the desired classes.
+     */
+    public static <T extends ParseTree> Iterator<T> iterateContentsOfTypes(ParseTree parseTree,
+                                                                         List<Class<? extends ParseTree>> desiredTypes,
+                                                                         List<Class<? extends ParseTree>> prunedTypes) {
+        return new ParseTreeIterator<>(parseTree, new RuleTypeMatcher(desiredTypes),
+                prunedTypes.isEmpty() ? null : new RuleTypeMatcher(prunedTypes));
+    }
+
+    /**
+     * Gets a sequential stream of all nodes that are instances of the list of desired classes.
+     * Start node can be any node in the parse tree.
+     * The parse tree is traversed lazily, short-circuiting operations such as
+     * findFirst or anyMatch stop the traversal.
+     * Children of nodes that are instances of the pruned classes are not visited.
+     *
+     * @param parseTree    Start node.
+     * @param desiredTypes Desired classes (must be descendants of ParseTree).
+     * @param prunedTypes  Classes of nodes whose children are not visited. Empty to visit all nodes.
+     * @param <T>          The return type of the result.
+     * @return Stream of nodes that are instances of the desired classes.
+     */
+    public static <T extends ParseTree> Stream<T> streamContentsOfTypes(ParseTree parseTree,
+                                                                      List<Class<? extends ParseTree>> desiredTypes,
+                                                                      List<Class<? extends ParseTree>> prunedTypes) {
+        Iterator<T> iterator = iterateContentsOfTypes(parseTree, desiredTypes, prunedTypes);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator,
+                Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    /**
+     * Gets a sequential stream of all nodes that are instances of the desired class.
+     * Start node can be any node in the parse tree.
+     * The parse tree is traversed lazily, short-circuiting operations such as
+     * findFirst or anyMatch stop the traversal.
+     *
+     * @param parseTree   Start node.
+     * @param desiredType Desired class (must be a descendant of ParseTree).
+     * @param <T>         The return type of the result.
+     * @return Stream of nodes that are instances of the desired class.
+     */
+    public static <T extends ParseTree> Stream<T> streamContentsOfType(ParseTree parseTree, Class<T> desiredType) {
+        return streamContentsOfTypes(parseTree, Collections.singletonList(desiredType), Collections.emptyList());
+    }
+
+    /**
+     * Gets a sequential stream of all nodes that are instances of the desired class.
+     * Start node can be any node in the parse tree.
+     * Children of nodes that are instances of the pruned classes are not visited.
+     * For example, pass ExpressionContext as pruned class when looking for statements
+     * to skip all expressions.
+     *
+     * @param parseTree   Start node.
+     * @param desiredType Desired class (must be a descendant of ParseTree).
+     * @param prunedTypes Classes of nodes whose children are not visited.
+     * @param <T>         The return type of the result.
+     * @return Stream of nodes that are instances of the desired class.
+     */
+    public static <T extends ParseTree> Stream<T> streamContentsOfType(ParseTree parseTree, Class<T> desiredType,
+                                                                     List<Class<? extends ParseTree>> prunedTypes) {
+        return streamContentsOfTypes(parseTree, Collections.singletonList(desiredType), prunedTypes);
+    }
+
+    /**
+     * Gets the first node in depth-first order that is an instance of the desired class.
+     * Start node can be any node in the parse tree.
+     * Stops the traversal on the first match.
+     *
+     * @param parseTree   Start node.
+     * @param desiredType Desired class (must be a descendant of ParseTree).
+     * @param <T>         The return type of the result.
+     * @return Returns the first instance of the desired class or null if there is none.
+     */
+    public static <T extends ParseTree> T getFirstContentOfType(ParseTree parseTree, Class<T> desiredType) {
+        Iterator<T> iterator = iterateContentsOfTypes(parseTree, Collections.singletonList(desiredType), Collections.emptyList());
+        return iterator.hasNext() ? iterator.next() : null;
+    }
+
+    /**
+     * Determines if there is a node that is an instance of the desired class.
+     * Start node can be any node in the parse tree.
+     * Stops the traversal on the first match.
+     *
+     * @param parseTree   Start node.
+     * @param desiredType Desired class (must be a descendant of ParseTree).
+     * @return Returns true if there is at least one instance of the desired class.
+     */
+    public static boolean containsContentOfType(ParseTree parseTree, Class<? extends ParseTree> desiredType) {
+        return getFirstContentOfType(parseTree, desiredType) != null;
+    }
+
     /**
      * Gets the parent node of the desired class.
      * Start node can be any node in the parse tree.
@@ -239,7 +345,7 @@ public class ParseTreeUtil {
      */
     public static String printParseTree(ParseTree root) {
         PrintRuleListener listener = new PrintRuleListener();
-        ParseTreeWalker walker = new ParseTreeWalker();
+        ParseTreeWalker walker = IterativeParseTreeWalker.DEFAULT;
         walker.walk(listener, root);
         return listener.getResult();
     }
@@ -252,7 +358,7 @@ public class ParseTreeUtil {
      */
     public static String dotParseTree(ParseTree root) {
         DotRuleListener listener = new DotRuleListener();
-        ParseTreeWalker walker = new ParseTreeWalker();
+        ParseTreeWalker walker = IterativeParseTreeWalker.DEFAULT;
         walker.walk(listener, root);
         return listener.getResult();
     }
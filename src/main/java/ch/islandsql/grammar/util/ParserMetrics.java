@@ -33,6 +33,10 @@ public class ParserMetrics {
     private final long time;
     private final long memory;
     private final ParseInfo parseInfo;
+    private final int subtrees;
+    private final long subtreeTime;
+    private final long subtreeElapsedTime;
+    private final int subtreeThreads;
 
     /**
      * Constructor.
@@ -42,9 +46,29 @@ public class ParserMetrics {
      * @param parseInfo Statistics gathered during profiling of the parser.
      */
     public ParserMetrics(long time, long memory, ParseInfo parseInfo) {
+        this(time, memory, parseInfo, 0, 0, 0, 1);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param time               Number of nanoseconds spent in the parser.
+     * @param memory             Number of bytes used by the parser.
+     * @param parseInfo          Statistics gathered during profiling of the parser.
+     * @param subtrees           Number of code strings parsed as subtree.
+     * @param subtreeTime        Number of nanoseconds spent to parse subtrees, summed over all threads.
+     * @param subtreeElapsedTime Number of nanoseconds elapsed while parsing subtrees.
+     * @param subtreeThreads     Number of threads used to parse subtrees.
+     */
+    public ParserMetrics(long time, long memory, ParseInfo parseInfo, int subtrees, long subtreeTime,
+                         long subtreeElapsedTime, int subtreeThreads) {
         this.time = time;
         this.memory = memory;
         this.parseInfo = parseInfo;
+        this.subtrees = subtrees;
+        this.subtreeTime = subtreeTime;
+        this.subtreeElapsedTime = subtreeElapsedTime;
+        this.subtreeThreads = subtreeThreads;
     }
 
     /**
@@ -74,6 +98,44 @@ public class ParserMetrics {
         return parseInfo;
     }
 
+    /**
+     * Get the number of code strings parsed as subtree.
+     *
+     * @return The number of code strings parsed as subtree.
+     */
+    public int getSubtrees() {
+        return subtrees;
+    }
+
+    /**
+     * Get the number of nanoseconds spent to parse subtrees, summed over all threads.
+     * A value above the elapsed time shows the work done in parallel.
+     *
+     * @return The number of nanoseconds spent to parse subtrees.
+     */
+    public long getSubtreeTime() {
+        return subtreeTime;
+    }
+
+    /**
+     * Get the number of nanoseconds elapsed while parsing subtrees, including finding the code
+     * and adding the subtrees to the parse tree. Part of the time spent in the parser.
+     *
+     * @return The number of nanoseconds elapsed while parsing subtrees.
+     */
+    public long getSubtreeElapsedTime() {
+        return subtreeElapsedTime;
+    }
+
+    /**
+     * Get the number of threads used to parse subtrees.
+     *
+     * @return The number of threads used to parse subtrees, 1 if parsed sequentially.
+     */
+    public int getSubtreeThreads() {
+        return subtreeThreads;
+    }
+
     /**
      * Get the relevant decision information gathered during profiling of the parser.
      * <p>
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2026 Philipp Salvisberg <philipp.salvisberg@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.islandsql.grammar.util;
+
+import ch.islandsql.grammar.IslandSqlParser;
+import ch.islandsql.grammar.IslandSqlParserRuleContext;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.tree.ParseTree;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Matches nodes against a list of desired classes without reflection.
+ * <p>
+ * Classes generated for IslandSqlParser rules are resolved to their rule index once.
+ * Afterwards, a rule context matches if its rule index is part of a precomputed bitset.
+ * Classes generated for labeled alternatives are matched by rule index and class.
+ * All other classes, e.g. TerminalNode, are matched via {@link Class#isInstance(Object)}.
+ * </p>
+ */
+public class RuleTypeMatcher {
+    private static final Map<String, Integer> RULE_INDEX_BY_CLASS_NAME = new HashMap<>();
+    private final BitSet ruleIndexes = new BitSet();
+    private final BitSet labeledRuleIndexes = new BitSet();
+    private final Set<Class<?>> labeledTypes = new HashSet<>();
+    private final List<Class<?>> otherTypes = new ArrayList<>();
+
+    static {
+        for (int i = 0; i < IslandSqlParser.ruleNames.length; i++) {
+            String ruleName = IslandSqlParser.ruleNames[i];
+            RULE_INDEX_BY_CLASS_NAME.put(Character.toUpperCase(ruleName.charAt(0)) + ruleName.substring(1) + "Context", i);
+        }
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param desiredTypes Desired classes (must be descendants of ParseTree).
+     */
+    public RuleTypeMatcher(List<Class<? extends ParseTree>> desiredTypes) {
+        for (Class<? extends ParseTree> desiredType : desiredTypes) {
+            Integer ruleIndex = getRuleIndex(desiredType);
+            if (ruleIndex != null) {
+                ruleIndexes.set(ruleIndex);
+            } else {
+                ruleIndex = getRuleIndex(desiredType.getSuperclass());
+                if (ruleIndex != null) {
+                    labeledRuleIndexes.set(ruleIndex);
+                    labeledTypes.add(desiredType);
+                } else {
+                    otherTypes.add(desiredType);
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the rule index of a class generated for a rule in IslandSqlParser.
+     *
+     * @param type The class to be resolved.
+     * @return Returns the rule index or null, if the class does not represent a rule.
+     */
+    private static Integer getRuleIndex(Class<?> type) {
+        if (type != null && type.getEnclosingClass() == IslandSqlParser.class
+                && type.getSuperclass() == IslandSqlParserRuleContext.class) {
+            return RULE_INDEX_BY_CLASS_NAME.get(type.getSimpleName());
+        }
+        return null;
+    }
+
+    /**
+     * Determines if a node is an instance of at least one of the desired classes.
+     *
+     * @param node The node to be checked.
+     * @return Returns true if the node matches a desired class.
+     */
+    public boolean matches(ParseTree node) {
+        if (node instanceof ParserRuleContext) {
+            int ruleIndex = ((ParserRuleContext) node).getRuleIndex();
+            if (ruleIndexes.get(ruleIndex)) {
+                return true;
+            }
+            if (labeledRuleIndexes.get(ruleIndex) && labeledTypes.contains(node.getClass())) {
+                return true;
+            }
+        }
+        for (Class<?> otherType : otherTypes) {
+            if (otherType.isInstance(node)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Determines if a node can be an instance of one of the desired classes.
+     * Cheap pre-check that considers only the rule index of rule contexts.
+     * A positive result must be confirmed with {@link #matches(ParseTree)}.
+     *
+     * @param node The node to be checked.
+     * @return Returns false if the node cannot match any desired class.
+     */
+    public boolean mayMatch(ParseTree node) {
+        if (!otherTypes.isEmpty()) {
+            return true;
+        }
+        if (node instanceof ParserRuleContext) {
+            int ruleIndex = ((ParserRuleContext) node).getRuleIndex();
+            return ruleIndexes.get(ruleIndex) || labeledRuleIndexes.get(ruleIndex);
+        }
+        return false;
+    }
+}
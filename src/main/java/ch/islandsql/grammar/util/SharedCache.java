@@ -15,7 +15,9 @@
  */
 package ch.islandsql.grammar.util;
 
+import ch.islandsql.grammar.IslandSqlDialect;
 import ch.islandsql.grammar.IslandSqlLexer;
+import ch.islandsql.grammar.IslandSqlOracleLexer;
 import ch.islandsql.grammar.IslandSqlParser;
 import org.antlr.v4.runtime.CharStreams;
 import org.antlr.v4.runtime.CommonTokenStream;
@@ -31,14 +33,19 @@ import java.util.Map;
  */
 public class SharedCache {
     private final IslandSqlLexer lexer;
+    private final IslandSqlLexer oracleLexer;
     private final IslandSqlParser parser;
+    private final IslandSqlParser oracleParser;
 
     /**
      * Constructor.
      */
     public SharedCache() {
         this.lexer = new IslandSqlLexer(CharStreams.fromString(""));
+        this.oracleLexer = new IslandSqlOracleLexer(CharStreams.fromString(""));
         this.parser = new IslandSqlParser(new CommonTokenStream(this.lexer));
+        this.oracleParser = new IslandSqlParser(new CommonTokenStream(this.oracleLexer));
+        this.oracleParser.setDialect(IslandSqlDialect.ORACLEDB);
     }
 
     /**
@@ -70,6 +77,7 @@ public class SharedCache {
      */
     public void clearLexerDFA() {
         lexer.getInterpreter().clearDFA();
+        oracleLexer.getInterpreter().clearDFA();
     }
 
     /**
@@ -77,6 +85,7 @@ public class SharedCache {
      */
     public void clearParserDFA() {
         parser.getInterpreter().clearDFA();
+        oracleParser.getInterpreter().clearDFA();
     }
 
     /**
@@ -101,6 +110,7 @@ public class SharedCache {
      */
     public void clearLexerSharedContext() {
         clearPredictionContextCache(lexer.getInterpreter().getSharedContextCache());
+        clearPredictionContextCache(oracleLexer.getInterpreter().getSharedContextCache());
     }
 
     /**
@@ -108,5 +118,6 @@ public class SharedCache {
      */
     public void clearParserSharedContext() {
         clearPredictionContextCache(parser.getInterpreter().getSharedContextCache());
+        clearPredictionContextCache(oracleParser.getInterpreter().getSharedContextCache());
     }
 }
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2026 Philipp Salvisberg <philipp.salvisberg@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.islandsql.grammar.util;
+
+import ch.islandsql.grammar.IslandSqlScopeLexer;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.misc.Interval;
+
+/**
+ * Representation of a statement found by the {@link StatementSplitter}.
+ * Offsets are code point indexes in the SQL script, as used by ANTLR.
+ */
+public class SplitStatement {
+    private final CharStream input;
+    private final int kind;
+    private final int startIndex;
+    private final int stopIndex;
+    private final int line;
+    private final int charPositionInLine;
+    private final boolean inScope;
+
+    /**
+     * Constructor.
+     *
+     * @param input              The character stream of the SQL script.
+     * @param kind               The token type of the IslandSqlScopeLexer that starts the statement.
+     * @param startIndex         The index of the first character of the statement.
+     * @param stopIndex          The index of the last character of the statement.
+     * @param line               The line number of the first character of the statement.
+     * @param charPositionInLine The position of the first character within the line.
+     * @param inScope            Is the statement in scope of IslandSQL?
+     */
+    public SplitStatement(CharStream input, int kind, int startIndex, int stopIndex, int line,
+                          int charPositionInLine, boolean inScope) {
+        this.input = input;
+        this.kind = kind;
+        this.startIndex = startIndex;
+        this.stopIndex = stopIndex;
+        this.line = line;
+        this.charPositionInLine = charPositionInLine;
+        this.inScope = inScope;
+    }
+
+    /**
+     * Get the token type of the IslandSqlScopeLexer that starts the statement, e.g.
+     * {@link IslandSqlScopeLexer#CREATE_FUNCTION CREATE_FUNCTION} or {@link IslandSqlScopeLexer#GRANT GRANT}.
+     *
+     * @return Returns the kind of the statement as token type.
+     */
+    public int getKind() {
+        return kind;
+    }
+
+    /**
+     * Get the name of the token type that starts the statement, e.g. CREATE_FUNCTION or GRANT.
+     *
+     * @return Returns the kind of the statement as name.
+     */
+    public String getKindName() {
+        return IslandSqlScopeLexer.VOCABULARY.getSymbolicName(kind);
+    }
+
+    /**
+     * Get the index of the first character of the statement.
+     *
+     * @return Returns the start index.
+     */
+    public int getStartIndex() {
+        return startIndex;
+    }
+
+    /**
+     * Get the index of the last character of the statement, including the terminator.
+     *
+     * @return Returns the stop index.
+     */
+    public int getStopIndex() {
+        return stopIndex;
+    }
+
+    /**
+     * Get the line number of the first character of the statement.
+     *
+     * @return Returns the line number, starting with 1.
+     */
+    public int getLine() {
+        return line;
+    }
+
+    /**
+     * Get the position of the first character of the statement within the line.
+     *
+     * @return Returns the position within the line, starting with 0.
+     */
+    public int getCharPositionInLine() {
+        return charPositionInLine;
+    }
+
+    /**
+     * Determines if the statement is in scope of IslandSQL.
+     * Statements in scope are parsed by the IslandSqlParser, all others are hidden.
+     *
+     * @return Returns true if the statement is in scope.
+     */
+    public boolean isInScope() {
+        return inScope;
+    }
+
+    /**
+     * Get the text of the statement. The text is extracted on demand.
+     *
+     * @return Returns the text of the statement.
+     */
+    public String getText() {
+        return input.getText(Interval.of(startIndex, stopIndex));
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2026 Philipp Salvisberg <philipp.salvisberg@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.islandsql.grammar.util;
+
+import java.util.Arrays;
+
+/**
+ * Start positions and kinds of the statements in scope of IslandSQL as identified by the IslandSqlScopeLexer.
+ * A position is the index of the first visible token of a statement in the token stream
+ * produced by the IslandSqlLexer. The positions are in ascending order.
+ * A kind is the token type produced by the IslandSqlScopeLexer, e.g. IslandSqlScopeLexer.CREATE_PACKAGE.
+ */
+public class StatementBoundaries {
+    private int[] startTokenIndexes = new int[16];
+    private int[] kinds = new int[16];
+    private int size = 0;
+
+    /**
+     * Adds the start position of the next statement.
+     *
+     * @param tokenIndex Index of the first visible token of the statement.
+     * @param kind       Token type of the statement produced by the IslandSqlScopeLexer, 0 if unknown.
+     */
+    void add(int tokenIndex, int kind) {
+        assert size == 0 || startTokenIndexes[size - 1] < tokenIndex : "Statement boundaries must be added in ascending order.";
+        if (size == startTokenIndexes.length) {
+            startTokenIndexes = Arrays.copyOf(startTokenIndexes, size * 2);
+            kinds = Arrays.copyOf(kinds, size * 2);
+        }
+        startTokenIndexes[size] = tokenIndex;
+        kinds[size++] = kind;
+    }
+
+    /**
+     * Gets the number of statements.
+     *
+     * @return The number of statements in scope.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the start position of a statement.
+     *
+     * @param i The zero-based number of the statement.
+     * @return Index of the first visible token of the statement.
+     */
+    public int getStartTokenIndex(int i) {
+        if (i < 0 || i >= size) {
+            throw new IndexOutOfBoundsException("Statement " + i + " does not exist, size is " + size + ".");
+        }
+        return startTokenIndexes[i];
+    }
+
+    /**
+     * Gets the kind of a statement.
+     *
+     * @param i The zero-based number of the statement.
+     * @return Token type of the statement produced by the IslandSqlScopeLexer, 0 if unknown.
+     */
+    public int getKind(int i) {
+        if (i < 0 || i >= size) {
+            throw new IndexOutOfBoundsException("Statement " + i + " does not exist, size is " + size + ".");
+        }
+        return kinds[i];
+    }
+
+    /**
+     * Gets the kind of the statement starting at a token.
+     *
+     * @param tokenIndex Index of the token.
+     * @return Token type of the statement produced by the IslandSqlScopeLexer,
+     * 0 if unknown or the token does not start a statement.
+     */
+    public int getKindAt(int tokenIndex) {
+        int pos = Arrays.binarySearch(startTokenIndexes, 0, size, tokenIndex);
+        return pos >= 0 ? kinds[pos] : 0;
+    }
+
+    /**
+     * Determines if a token starts a statement.
+     *
+     * @param tokenIndex Index of the token.
+     * @return Returns true if the token is the first visible token of a statement.
+     */
+    public boolean isStart(int tokenIndex) {
+        return Arrays.binarySearch(startTokenIndexes, 0, size, tokenIndex) >= 0;
+    }
+
+    /**
+     * Gets the start position of the statement following a token.
+     *
+     * @param tokenIndex Index of the token.
+     * @return Index of the first visible token of the next statement, -1 if there is no next statement.
+     */
+    public int getNextStartTokenIndex(int tokenIndex) {
+        int pos = Arrays.binarySearch(startTokenIndexes, 0, size, tokenIndex);
+        int next = pos >= 0 ? pos + 1 : -pos - 1;
+        return next < size ? startTokenIndexes[next] : -1;
+    }
+}
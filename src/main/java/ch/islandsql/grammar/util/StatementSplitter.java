@@ -0,0 +1,115 @@
+/*
+ * Copyright 2026 Philipp Salvisberg <philipp.salvisberg@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.islandsql.grammar.util;
+
+import ch.islandsql.grammar.IslandSqlDialect;
+import ch.islandsql.grammar.IslandSqlLexerBase;
+import ch.islandsql.grammar.IslandSqlScopeLexer;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CodePointCharStream;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.Token;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Splits a SQL script into statements and classifies them using the IslandSqlScopeLexer only.
+ * The IslandSqlLexer and the IslandSqlParser are not used.
+ * A statement starts with a token produced in the default mode of the scope lexer, which is
+ * neither whitespace, comment, string, identifier nor any other single character. It ends with the
+ * last token produced before the scope lexer is back in the default mode.
+ */
+public class StatementSplitter {
+    /**
+     * Splits a SQL script into statements.
+     *
+     * @param sql     The SQL script.
+     * @param dialect The SQL dialect to be used, null for {@link IslandSqlDialect#GENERIC GENERIC}.
+     * @return The statements in the order of appearance.
+     */
+    public static List<SplitStatement> split(String sql, IslandSqlDialect dialect) {
+        CodePointCharStream input = CharStreams.fromString(sql != null ? sql : "");
+        IslandSqlScopeLexer lexer = IslandSqlLexerBase.createScopeLexer(input,
+                dialect != null ? dialect : IslandSqlDialect.GENERIC);
+        lexer.removeErrorListeners();
+        List<SplitStatement> result = new ArrayList<>();
+        Token start = null;
+        Token last = null;
+        while (true) {
+            boolean defaultMode = lexer._mode == Lexer.DEFAULT_MODE;
+            Token token;
+            try {
+                token = lexer.nextToken();
+            } catch (IllegalStateException e) {
+                // fail-safe for issues in the lexer, see hideOutOfScopeTokens
+                if (start != null) {
+                    result.add(createStatement(input, start, last));
+                }
+                break;
+            }
+            if (token.getType() == Token.EOF || defaultMode) {
+                if (start != null) {
+                    result.add(createStatement(input, start, last));
+                    start = null;
+                }
+                if (token.getType() == Token.EOF) {
+                    break;
+                }
+                if (isStatementStart(token)) {
+                    start = token;
+                }
+            }
+            last = token;
+        }
+        return result;
+    }
+
+    /**
+     * Determines if a token produced in the default mode starts a statement.
+     *
+     * @param token The token produced in the default mode.
+     * @return Returns true if the token starts a statement.
+     */
+    private static boolean isStatementStart(Token token) {
+        switch (token.getType()) {
+            case IslandSqlScopeLexer.WS:
+            case IslandSqlScopeLexer.STRING:
+            case IslandSqlScopeLexer.ID:
+            case IslandSqlScopeLexer.QUOTED_ID:
+            case IslandSqlScopeLexer.ML_COMMENT:
+            case IslandSqlScopeLexer.SL_COMMENT:
+            case IslandSqlScopeLexer.ANY_OTHER:
+                return false;
+            default:
+                return true;
+        }
+    }
+
+    /**
+     * Creates a statement from its first and last token.
+     *
+     * @param input The character stream of the SQL script.
+     * @param start The token starting the statement.
+     * @param stop  The last token of the statement.
+     * @return The statement.
+     */
+    private static SplitStatement createStatement(CodePointCharStream input, Token start, Token stop) {
+        return new SplitStatement(input, start.getType(), start.getStartIndex(), stop.getStopIndex(),
+                start.getLine(), start.getCharPositionInLine(), start.getChannel() == Token.DEFAULT_CHANNEL);
+    }
+}
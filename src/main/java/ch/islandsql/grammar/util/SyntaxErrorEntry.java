@@ -17,6 +17,7 @@
 package ch.islandsql.grammar.util;
 
 import org.antlr.v4.runtime.RecognitionException;
+import org.antlr.v4.runtime.Token;
 
 /**
  * Representation of a syntax error.
@@ -26,6 +27,8 @@ public class SyntaxErrorEntry {
     private final Object offendingSymbol;
     private final int line;
     private final int charPositionInLine;
+    private final int offset;
+    private final int tokenType;
     private final String message;
     private final RecognitionException exception;
 
@@ -45,9 +48,44 @@ public class SyntaxErrorEntry {
      *                           surrounding rule.
      */
     public SyntaxErrorEntry(Object offendingSymbol, int line, int charPositionInLine, String message, RecognitionException exception) {
+        this(offendingSymbol, line, charPositionInLine,
+                offendingSymbol instanceof Token ? ((Token) offendingSymbol).getStartIndex() : -1,
+                offendingSymbol instanceof Token ? ((Token) offendingSymbol).getType() : Token.INVALID_TYPE,
+                message, exception);
+    }
+
+    /**
+     * Constructor for a lightweight entry. It does not reference the offending token nor the exception.
+     * Therefore, it does not keep the lexer, parser or input stream in memory.
+     *
+     * @param line               The line number in the input where the error occurred.
+     * @param charPositionInLine The character position within that line where the error occurred.
+     * @param offset             The character index in the input where the error occurred, -1 if unknown.
+     * @param tokenType          The type of the offending token, 0 if unknown.
+     * @param message            The message to emit.
+     */
+    public SyntaxErrorEntry(int line, int charPositionInLine, int offset, int tokenType, String message) {
+        this(null, line, charPositionInLine, offset, tokenType, message, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param offendingSymbol    The offending token in the input token stream, null if unknown.
+     * @param line               The line number in the input where the error occurred.
+     * @param charPositionInLine The character position within that line where the error occurred.
+     * @param offset             The character index in the input where the error occurred, -1 if unknown.
+     * @param tokenType          The type of the offending token, 0 if unknown.
+     * @param message            The message to emit.
+     * @param exception          The exception generated by the parser that led to the reporting of an error.
+     */
+    public SyntaxErrorEntry(Object offendingSymbol, int line, int charPositionInLine, int offset, int tokenType,
+                            String message, RecognitionException exception) {
         this.offendingSymbol = offendingSymbol;
         this.line = line;
         this.charPositionInLine = charPositionInLine;
+        this.offset = offset;
+        this.tokenType = tokenType;
         this.message = message;
         this.exception = exception;
     }
@@ -79,6 +117,24 @@ public class SyntaxErrorEntry {
         return charPositionInLine;
     }
 
+    /**
+     * Get the character index in the input where the error occurred.
+     *
+     * @return Returns the character index in the input where the error occurred, -1 if unknown.
+     */
+    public int getOffset() {
+        return offset;
+    }
+
+    /**
+     * Get the type of the offending token.
+     *
+     * @return Returns the type of the offending token, 0 if unknown, e.g. for lexer errors.
+     */
+    public int getTokenType() {
+        return tokenType;
+    }
+
     /**
      * Get the syntax error message.
      *
@@ -17,17 +17,60 @@
 package ch.islandsql.grammar.util;
 
 import org.antlr.v4.runtime.BaseErrorListener;
+import org.antlr.v4.runtime.Lexer;
 import org.antlr.v4.runtime.RecognitionException;
 import org.antlr.v4.runtime.Recognizer;
+import org.antlr.v4.runtime.Token;
 
 import java.util.ArrayList;
 import java.util.List;
 
 /**
  * Listener to find errors.
+ * Optionally limits the number of collected errors and collects lightweight entries only.
  */
 public class SyntaxErrorListener extends BaseErrorListener {
     private final List<SyntaxErrorEntry> syntaxErrors = new ArrayList<>();
+    private final int maxErrors;
+    private final boolean lightweight;
+    private CancellationToken cancellationToken;
+
+    /**
+     * Constructor. Collects all errors with offending token and exception.
+     */
+    public SyntaxErrorListener() {
+        this(0, false);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param maxErrors   The maximum number of errors to collect, 0 for unlimited.
+     *                    Further errors are ignored and the cancellation token is cancelled, if set.
+     * @param lightweight Collect lightweight entries without offending token and exception?
+     */
+    public SyntaxErrorListener(int maxErrors, boolean lightweight) {
+        this.maxErrors = maxErrors;
+        this.lightweight = lightweight;
+    }
+
+    /**
+     * Sets the token to be cancelled when the maximum number of errors is reached.
+     *
+     * @param cancellationToken The cancellation token used by the lexer and parser.
+     */
+    public void setCancellationToken(CancellationToken cancellationToken) {
+        this.cancellationToken = cancellationToken;
+    }
+
+    /**
+     * Determines if the maximum number of errors has been reached.
+     *
+     * @return Returns true if further errors are ignored.
+     */
+    public boolean isLimitReached() {
+        return maxErrors > 0 && syntaxErrors.size() >= maxErrors;
+    }
 
     /**
      * Add syntax error to the result.
@@ -54,7 +97,75 @@ public class SyntaxErrorListener extends BaseErrorListener {
                             int charPositionInLine,
                             String msg,
                             RecognitionException e) {
-        syntaxErrors.add(new SyntaxErrorEntry(offendingSymbol, line, charPositionInLine, msg, e));
+        if (isLimitReached()) {
+            return;
+        }
+        addEntry(recognizer, offendingSymbol, line, charPositionInLine, msg, e);
+        cancelOnLimit();
+    }
+
+    /**
+     * Adds the errors collected by another listener, e.g. of code parsed concurrently.
+     * Respects the maximum number of errors.
+     *
+     * @param entries The errors to be added.
+     */
+    public void addSyntaxErrors(List<SyntaxErrorEntry> entries) {
+        for (SyntaxErrorEntry entry : entries) {
+            if (isLimitReached()) {
+                return;
+            }
+            syntaxErrors.add(entry);
+            cancelOnLimit();
+        }
+    }
+
+    /**
+     * Cancels the cancellation token, if the maximum number of errors has been reached.
+     */
+    private void cancelOnLimit() {
+        if (isLimitReached() && cancellationToken != null) {
+            cancellationToken.cancel("maximum number of " + maxErrors + " syntax errors reached, parsing stopped");
+        }
+    }
+
+    /**
+     * Adds an entry for a stopped lexer or parser, regardless of the maximum number of errors.
+     *
+     * @param offendingToken The last token read, null if unknown.
+     * @param msg            The reason why lexing or parsing stopped.
+     */
+    public void syntaxErrorStop(Token offendingToken, String msg) {
+        int line = offendingToken != null ? offendingToken.getLine() : 0;
+        int charPositionInLine = offendingToken != null ? offendingToken.getCharPositionInLine() : 0;
+        addEntry(null, offendingToken, line, charPositionInLine, msg, null);
+    }
+
+    /**
+     * Adds a full or lightweight entry to the result.
+     *
+     * @param recognizer         The lexer or parser that got the error, null if unknown.
+     * @param offendingSymbol    The offending token, null for lexer errors.
+     * @param line               The line number in the input where the error occurred.
+     * @param charPositionInLine The character position within that line where the error occurred.
+     * @param msg                The message to emit.
+     * @param e                  The exception generated by the parser, null if not available.
+     */
+    private void addEntry(Recognizer<?, ?> recognizer, Object offendingSymbol, int line, int charPositionInLine,
+                          String msg, RecognitionException e) {
+        int offset = -1;
+        int tokenType = Token.INVALID_TYPE;
+        if (offendingSymbol instanceof Token) {
+            offset = ((Token) offendingSymbol).getStartIndex();
+            tokenType = ((Token) offendingSymbol).getType();
+        } else if (recognizer instanceof Lexer) {
+            offset = ((Lexer) recognizer)._tokenStartCharIndex;
+        }
+        if (lightweight) {
+            syntaxErrors.add(new SyntaxErrorEntry(line, charPositionInLine, offset, tokenType, msg));
+        } else {
+            syntaxErrors.add(new SyntaxErrorEntry(offendingSymbol, line, charPositionInLine, offset, tokenType, msg, e));
+        }
     }
 
     /**
@@ -17,13 +17,18 @@
 package ch.islandsql.grammar.util;
 
 import ch.islandsql.grammar.IslandSqlDialect;
+import ch.islandsql.grammar.IslandSqlLexerBase;
+import ch.islandsql.grammar.IslandSqlLexer;
 import ch.islandsql.grammar.IslandSqlScopeLexer;
+import ch.islandsql.grammar.LiteralListToken;
 import org.antlr.v4.runtime.CharStreams;
 import org.antlr.v4.runtime.CodePointCharStream;
 import org.antlr.v4.runtime.CommonToken;
 import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.Lexer;
 import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.misc.Interval;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -45,10 +50,32 @@ public class TokenStreamUtil {
      */
     static public LexerMetrics hideOutOfScopeTokens(CommonTokenStream tokenStream, SyntaxErrorListener errorListener,
                                                     IslandSqlDialect dialect) {
+        return hideOutOfScopeTokens(tokenStream, errorListener, dialect, null, null);
+    }
+
+    /**
+     * Put all tokens that are not in the scope of IslandSQL on the HIDDEN channel.
+     * Lexing can be cancelled cooperatively via the cancellation token. In this case
+     * a {@link ParseCancellationException} is thrown and no tokens are hidden.
+     * Optionally collects the start positions of the statements in scope.
+     *
+     * @param tokenStream The tokensStream produced by islandSqlLexer to process.
+     * @param errorListener The errorListner to be used for the scope lexer.
+     * @param dialect The dialect to be used for the scope lexer.
+     * @param cancellationToken The token to cancel lexing, null if lexing cannot be cancelled.
+     * @param boundaries The empty statement boundaries to be populated, null if not required.
+     * @return The lexer metrics.
+     */
+    static public LexerMetrics hideOutOfScopeTokens(CommonTokenStream tokenStream, SyntaxErrorListener errorListener,
+                                                    IslandSqlDialect dialect, CancellationToken cancellationToken,
+                                                    StatementBoundaries boundaries) {
         long lexerStartTime = System.nanoTime();
         long lexerStartMemory = Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory();
         try {
             tokenStream.fill();
+        } catch (ParseCancellationException e) {
+            // not a lexer issue, must be handled by the caller
+            throw e;
         } catch (IllegalStateException e) {
             // Fail-safe for issues like #44 ("cannot consume EOF").
             // Syntax error is reported. This helps to identify the root cause in the lexer.
@@ -69,10 +96,9 @@ public class TokenStreamUtil {
         long lexerMemory = Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory() - lexerStartMemory;
         List<CommonToken> tokens = tokenStream.getTokens().stream().map(t -> (CommonToken)t).collect(Collectors.toList());
         CodePointCharStream charStream = CharStreams.fromString(tokenStream.getText());
-        IslandSqlScopeLexer scopeLexer = new IslandSqlScopeLexer(charStream);
-        if (dialect != null) {
-            scopeLexer.setDialect(dialect);
-        }
+        IslandSqlScopeLexer scopeLexer = IslandSqlLexerBase.createScopeLexer(charStream,
+                dialect != null ? dialect : IslandSqlDialect.GENERIC);
+        scopeLexer.setCancellationToken(cancellationToken);
         if (errorListener != null) {
             scopeLexer.removeErrorListeners();
             scopeLexer.addErrorListener(errorListener);
@@ -82,6 +108,9 @@ public class TokenStreamUtil {
         long scopeLexerStartMemory = Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory();
         try {
             scopeStream.fill();
+        } catch (ParseCancellationException e) {
+            // not a lexer issue, must be handled by the caller
+            throw e;
         } catch (IllegalStateException e) {
             // Fail save for issues in the lexer.
             // Syntax error is reported. This helps to identify the root cause in the lexer.
@@ -122,10 +151,351 @@ public class TokenStreamUtil {
                 token.setChannel(Token.HIDDEN_CHANNEL);
             }
         }
+        if (boundaries != null) {
+            collectStatementBoundaries(tokens, scopeLexer.getStatementStartIndexes(), scopeLexer.getStatementKinds(), boundaries);
+        }
         tokenStream.seek(0);
         return new LexerMetrics(scopeLexerTime, scopeLexerMemory, lexerTime, lexerMemory);
     }
 
+    /**
+     * Replaces lists of literals in parentheses by a single {@link LiteralListToken}.
+     * Only lists after the keywords IN and VALUES are considered, and lists following
+     * a replaced list and a comma, as in <code>values (1, 'a'), (2, 'b')</code>.
+     * A literal is a number, an optionally signed number, a simple string or null.
+     * The other tokens of a replaced list are put on the HIDDEN channel. As a result
+     * the parser produces a single node for all literals of a list, which reduces runtime
+     * and memory of scripts with bulk data. The token indexes are not changed.
+     *
+     * @param tokenStream The tokenStream produced by islandSqlLexer to process.
+     * @return The number of replaced lists.
+     */
+    public static int compactLiteralLists(CommonTokenStream tokenStream) {
+        tokenStream.fill();
+        List<Token> tokens = tokenStream.getTokens();
+        int lists = 0;
+        int previousType = Token.INVALID_TYPE;
+        boolean afterList = false;
+        boolean afterListAndComma = false;
+        for (int i = 0; i < tokens.size(); i++) {
+            Token token = tokens.get(i);
+            if (token.getChannel() != Token.DEFAULT_CHANNEL) {
+                continue;
+            }
+            int type = token.getType();
+            if (type == IslandSqlLexer.LPAR && (previousType == IslandSqlLexer.K_IN
+                    || previousType == IslandSqlLexer.K_VALUES || afterListAndComma)) {
+                int last = compactLiteralList(tokens, i);
+                if (last > i) {
+                    lists++;
+                    i = last;
+                    previousType = IslandSqlLexer.RPAR;
+                    afterList = true;
+                    afterListAndComma = false;
+                    continue;
+                }
+            }
+            afterListAndComma = afterList && type == IslandSqlLexer.COMMA;
+            afterList = false;
+            previousType = type;
+        }
+        tokenStream.seek(0);
+        return lists;
+    }
+
+    /**
+     * Replaces a list of literals in parentheses by a single {@link LiteralListToken}.
+     *
+     * @param tokens All tokens of the token stream.
+     * @param lparIndex The index of the left parenthesis.
+     * @return The index of the right parenthesis, -1 if the list contains something else than literals.
+     */
+    private static int compactLiteralList(List<Token> tokens, int lparIndex) {
+        int count = 0;
+        int lastLiteralIndex = -1;
+        int i = nextVisible(tokens, lparIndex);
+        while (i > 0) {
+            int type = tokens.get(i).getType();
+            if (type == IslandSqlLexer.MINUS || type == IslandSqlLexer.PLUS) {
+                i = nextVisible(tokens, i);
+                if (i < 0 || tokens.get(i).getType() != IslandSqlLexer.NUMBER) {
+                    return -1;
+                }
+            } else if (type != IslandSqlLexer.NUMBER && type != IslandSqlLexer.STRING && type != IslandSqlLexer.K_NULL) {
+                return -1;
+            }
+            count++;
+            lastLiteralIndex = i;
+            i = nextVisible(tokens, i);
+            if (i < 0) {
+                return -1;
+            }
+            if (tokens.get(i).getType() == IslandSqlLexer.RPAR) {
+                break;
+            }
+            if (tokens.get(i).getType() != IslandSqlLexer.COMMA) {
+                return -1;
+            }
+            i = nextVisible(tokens, i);
+        }
+        if (i < 0) {
+            return -1;
+        }
+        int firstIndex = nextVisible(tokens, lparIndex);
+        for (int j = firstIndex + 1; j <= lastLiteralIndex; j++) {
+            ((CommonToken) tokens.get(j)).setChannel(Token.HIDDEN_CHANNEL);
+        }
+        tokens.set(firstIndex, new LiteralListToken(tokens, tokens.get(firstIndex), lastLiteralIndex, count));
+        return i;
+    }
+
+    /**
+     * Gets the next token on the DEFAULT channel.
+     *
+     * @param tokens All tokens of the token stream.
+     * @param index The index of the current token.
+     * @return The index of the next visible token, -1 if there is none before EOF.
+     */
+    private static int nextVisible(List<Token> tokens, int index) {
+        for (int i = index + 1; i < tokens.size(); i++) {
+            Token token = tokens.get(i);
+            if (token.getType() == Token.EOF) {
+                return -1;
+            }
+            if (token.getChannel() == Token.DEFAULT_CHANNEL) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Finds the function and procedure definitions at the top level of the declare section of package
+     * bodies with a token scan, without parsing. A definition starts with the keyword FUNCTION or PROCEDURE
+     * and ends with the semicolon after the END of its body. Declarations, call specifications and nested
+     * definitions are not returned. The scan of a package body stops at a conditional compilation directive
+     * or an unexpected token, the definitions found so far are kept. Since the scan is based on keywords only,
+     * the result has to be verified by parsing.
+     *
+     * @param tokenStream The tokenStream produced by islandSqlLexer after hiding out of scope tokens.
+     * @param boundaries The statement boundaries found while hiding out of scope tokens.
+     * @return The token index ranges of the definitions, from the FUNCTION or PROCEDURE keyword to the semicolon.
+     */
+    public static List<Interval> findSubprograms(CommonTokenStream tokenStream, StatementBoundaries boundaries) {
+        List<Token> tokens = tokenStream.getTokens();
+        List<Interval> subprograms = new ArrayList<>();
+        for (int i = 0; i < boundaries.size(); i++) {
+            if (boundaries.getKind(i) == IslandSqlScopeLexer.CREATE_PACKAGE) {
+                int start = boundaries.getStartTokenIndex(i);
+                int end = i + 1 < boundaries.size() ? boundaries.getStartTokenIndex(i + 1) : tokens.size();
+                int[] indexes = new int[end - start];
+                int count = 0;
+                for (int j = start; j < end; j++) {
+                    Token token = tokens.get(j);
+                    if (token.getChannel() == Token.DEFAULT_CHANNEL && token.getType() != Token.EOF) {
+                        indexes[count++] = j;
+                    }
+                }
+                int[] types = new int[count];
+                for (int j = 0; j < count; j++) {
+                    types[j] = tokens.get(indexes[j]).getType();
+                }
+                findPackageBodySubprograms(types, indexes, subprograms);
+            }
+        }
+        return subprograms;
+    }
+
+    /**
+     * Finds the function and procedure definitions at the top level of the declare section of a package body.
+     *
+     * @param types The types of the visible tokens of a create package statement.
+     * @param indexes The token indexes of the visible tokens.
+     * @param subprograms The token index ranges of the definitions to be populated.
+     */
+    private static void findPackageBodySubprograms(int[] types, int[] indexes, List<Interval> subprograms) {
+        int pos = 0;
+        while (pos < types.length && types[pos] != IslandSqlLexer.K_PACKAGE) {
+            pos++;
+        }
+        if (pos + 1 >= types.length || types[pos + 1] != IslandSqlLexer.K_BODY) {
+            return;
+        }
+        pos = skipHeading(types, pos);
+        if (pos < 0 || types[pos] == IslandSqlLexer.SEMI) {
+            return;
+        }
+        pos++;
+        while (pos < types.length) {
+            int type = types[pos];
+            if (type == IslandSqlLexer.K_FUNCTION || type == IslandSqlLexer.K_PROCEDURE) {
+                int headingEnd = skipHeading(types, pos);
+                int end = skipSubprogram(types, headingEnd);
+                if (end < 0) {
+                    return;
+                }
+                if (types[headingEnd] != IslandSqlLexer.SEMI && !isCallSpec(types, headingEnd + 1)) {
+                    subprograms.add(new Interval(indexes[pos], indexes[end]));
+                }
+                pos = end + 1;
+            } else if (type == IslandSqlLexer.K_BEGIN || type == IslandSqlLexer.K_END || type == IslandSqlLexer.DOLLAR_IF) {
+                // initialize section, end of package body or conditional compilation
+                return;
+            } else {
+                pos = skipToSemicolon(types, pos);
+                if (pos < 0) {
+                    return;
+                }
+                pos++;
+            }
+        }
+    }
+
+    /**
+     * Skips the heading of a function, procedure or package body.
+     *
+     * @param types The types of the visible tokens.
+     * @param pos The position of the first token of the heading.
+     * @return The position of the semicolon, IS or AS ending the heading, -1 if not found.
+     */
+    private static int skipHeading(int[] types, int pos) {
+        int parens = 0;
+        for (int i = pos; i < types.length; i++) {
+            int type = types[i];
+            if (type == IslandSqlLexer.LPAR) {
+                parens++;
+            } else if (type == IslandSqlLexer.RPAR) {
+                parens--;
+            } else if (parens == 0 && (type == IslandSqlLexer.SEMI || type == IslandSqlLexer.K_IS || type == IslandSqlLexer.K_AS)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Skips the rest of a function or procedure after its heading.
+     *
+     * @param types The types of the visible tokens.
+     * @param headingEnd The position of the semicolon, IS or AS ending the heading.
+     * @return The position of the semicolon ending the declaration or definition, -1 if not found.
+     */
+    private static int skipSubprogram(int[] types, int headingEnd) {
+        if (headingEnd < 0 || types[headingEnd] == IslandSqlLexer.SEMI) {
+            return headingEnd;
+        }
+        if (isCallSpec(types, headingEnd + 1)) {
+            return skipToSemicolon(types, headingEnd + 1);
+        }
+        int pos = headingEnd + 1;
+        while (pos >= 0 && pos < types.length) {
+            int type = types[pos];
+            if (type == IslandSqlLexer.K_BEGIN) {
+                return skipBody(types, pos);
+            } else if (type == IslandSqlLexer.K_FUNCTION || type == IslandSqlLexer.K_PROCEDURE) {
+                pos = skipSubprogram(types, skipHeading(types, pos));
+            } else if (type == IslandSqlLexer.K_END || type == IslandSqlLexer.DOLLAR_IF) {
+                return -1;
+            } else {
+                pos = skipToSemicolon(types, pos);
+            }
+            if (pos >= 0) {
+                pos++;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Skips the body of a function or procedure. Counts BEGIN and CASE, which are closed by END,
+     * except END IF and END LOOP.
+     *
+     * @param types The types of the visible tokens.
+     * @param pos The position of the keyword BEGIN.
+     * @return The position of the semicolon after END and the optional name, -1 if not found.
+     */
+    private static int skipBody(int[] types, int pos) {
+        int depth = 0;
+        for (int i = pos; i < types.length; i++) {
+            int type = types[i];
+            if (type == IslandSqlLexer.K_BEGIN || type == IslandSqlLexer.K_CASE) {
+                depth++;
+            } else if (type == IslandSqlLexer.K_END && i + 1 < types.length) {
+                int next = types[i + 1];
+                if (next == IslandSqlLexer.K_IF || next == IslandSqlLexer.K_LOOP) {
+                    i++;
+                    continue;
+                }
+                depth--;
+                if (depth == 0) {
+                    int semi = next == IslandSqlLexer.SEMI ? i + 1 : i + 2;
+                    return semi < types.length && types[semi] == IslandSqlLexer.SEMI ? semi : -1;
+                }
+                if (next == IslandSqlLexer.K_CASE) {
+                    i++;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Checks if a call specification starts at a position.
+     *
+     * @param types The types of the visible tokens.
+     * @param pos The position after IS or AS.
+     * @return Returns true if the token at pos starts a Java, JavaScript or C call specification.
+     */
+    private static boolean isCallSpec(int[] types, int pos) {
+        return pos < types.length && (types[pos] == IslandSqlLexer.K_LANGUAGE || types[pos] == IslandSqlLexer.K_EXTERNAL
+                || types[pos] == IslandSqlLexer.K_MLE);
+    }
+
+    /**
+     * Finds the next semicolon.
+     *
+     * @param types The types of the visible tokens.
+     * @param pos The position to start the search.
+     * @return The position of the semicolon, -1 if not found.
+     */
+    private static int skipToSemicolon(int[] types, int pos) {
+        for (int i = pos; i < types.length; i++) {
+            if (types[i] == IslandSqlLexer.SEMI) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Maps the character start indexes of the statements found by the scope lexer
+     * to the first visible token of each statement.
+     *
+     * @param tokens The tokens produced by the IslandSqlLexer after hiding out of scope tokens.
+     * @param startIndexes The character start indexes of the statements in ascending order.
+     * @param kinds The statement kinds (scope lexer token types) in the same order.
+     * @param boundaries The statement boundaries to be populated.
+     */
+    private static void collectStatementBoundaries(List<CommonToken> tokens, List<Integer> startIndexes,
+                                                   List<Integer> kinds, StatementBoundaries boundaries) {
+        int pos = 0;
+        int size = startIndexes.size();
+        for (CommonToken token : tokens) {
+            if (pos >= size) {
+                break;
+            }
+            if (token.getChannel() == Token.DEFAULT_CHANNEL && token.getType() != Token.EOF
+                    && token.getStartIndex() >= startIndexes.get(pos)) {
+                // the kind is known only if the statement starts exactly with this token
+                int kind = token.getStartIndex() == startIndexes.get(pos) ? kinds.get(pos) : 0;
+                boundaries.add(token.getTokenIndex(), kind);
+                while (pos < size && startIndexes.get(pos) <= token.getStartIndex()) {
+                    pos++;
+                }
+            }
+        }
+    }
+
     /**
      * Produces a SQL script containing only the islands of interest.
      * Keeps whitespace as is. Replaces all other characters in tokens
@@ -139,10 +509,7 @@ public class TokenStreamUtil {
         final StringBuilder sb = new StringBuilder();
         for (Token token : tokenStream.getTokens()) {
             if (token.getType() > 0) {
-                // Avoiding compile dependency to generated lexer in this method.
-                // Therefore using number literals for token types. Relevant are:
-                // WS=1, ML_HINT=2, ML_COMMENT=3, SL_HINT=4, SL_COMMENT=5, REMARK_COMMAND=6, PROMPT_COMMAND=7
-                if (token.getChannel() == Lexer.DEFAULT_TOKEN_CHANNEL || token.getType() <= 7) {
+                if (token.getChannel() == Lexer.DEFAULT_TOKEN_CHANNEL || isWhitespaceOrComment(token.getType())) {
                     sb.append(token.getText());
                 } else {
                     String text = token.getText();
@@ -159,4 +526,17 @@ public class TokenStreamUtil {
         }
         return sb.toString();
     }
+
+    /**
+     * Determines if a token type produced by the IslandSqlLexer is whitespace, a comment, a hint
+     * or a SQL*Plus comment command.
+     *
+     * @param type The token type.
+     * @return Returns true if the token is whitespace, a comment, a hint or a comment command.
+     */
+    private static boolean isWhitespaceOrComment(int type) {
+        return type == IslandSqlLexer.WS || type == IslandSqlLexer.ML_HINT || type == IslandSqlLexer.ML_COMMENT
+                || type == IslandSqlLexer.SL_HINT || type == IslandSqlLexer.SL_COMMENT
+                || type == IslandSqlLexer.REMARK_COMMAND || type == IslandSqlLexer.PROMPT_COMMAND;
+    }
 }
@@ -0,0 +1,474 @@
+/*
+ * Copyright 2026 Philipp Salvisberg <philipp.salvisberg@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.islandsql.grammar.util;
+
+import ch.islandsql.grammar.IslandSqlParser;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.TerminalNode;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Compiled representation of a path expression over IslandSqlParser rule names and labels.
+ * <p>
+ * A path expression consists of steps separated by {@code /} (child) or {@code //} (descendant).
+ * A path expression without a leading separator matches anywhere in the parse tree.
+ * A leading {@code /} anchors the first step at the start node. Examples:
+ * </p>
+ * <ul>
+ * <li>{@code createPackageBody//plsqlStatement/sqlStatement} - SQL statements in package bodies</li>
+ * <li>{@code queryBlock[whereClause]//functionExpression[name='nvl']} - nvl calls in queries with a where clause</li>
+ * <li>{@code simpleExpressionName} - nodes of a labeled alternative</li>
+ * <li>{@code insert//K_VALUES} - terminal nodes by token name</li>
+ * </ul>
+ * <p>
+ * A step is a rule name, a label name of an alternative, a token name or {@code *} for any rule context.
+ * A step can be followed by predicates in square brackets:
+ * </p>
+ * <ul>
+ * <li>{@code [path]} - the relative path matches at least one node below the current node,
+ *     e.g. {@code [whereClause]} for a child or {@code [//sqlName]} for a descendant</li>
+ * <li>{@code [name='value']} - the text of the element labeled {@code name} or the text of a child
+ *     with the rule name {@code name} equals the value, ignoring case. An unknown name is rejected.</li>
+ * <li>{@code [.='value']} - the text of the current node equals the value, ignoring case</li>
+ * </ul>
+ * <p>
+ * Compile a pattern once and reuse it. Use a {@link TreePatternMatcher} to evaluate
+ * many patterns in a single traversal of the parse tree.
+ * </p>
+ */
+public class TreePattern {
+    private static final List<String> RULE_NAMES = Arrays.asList(IslandSqlParser.ruleNames);
+    private final String expression;
+    private final List<Step> steps;
+
+    /**
+     * Constructor.
+     *
+     * @param expression The path expression.
+     * @param steps      The compiled steps.
+     */
+    private TreePattern(String expression, List<Step> steps) {
+        this.expression = expression;
+        this.steps = steps;
+    }
+
+    /**
+     * Compiles a path expression.
+     *
+     * @param expression The path expression to be compiled.
+     * @return The compiled pattern.
+     * @throws IllegalArgumentException if the expression is invalid or contains unknown names.
+     */
+    public static TreePattern compile(String expression) {
+        PatternParser parser = new PatternParser(expression);
+        List<Step> steps = parser.parsePath(true);
+        parser.expectEnd();
+        return new TreePattern(expression, Collections.unmodifiableList(steps));
+    }
+
+    /**
+     * Gets the path expression used to compile this pattern.
+     *
+     * @return The path expression.
+     */
+    public String getExpression() {
+        return expression;
+    }
+
+    /**
+     * Gets the compiled steps.
+     *
+     * @return The compiled steps.
+     */
+    List<Step> getSteps() {
+        return steps;
+    }
+
+    /**
+     * Gets all nodes matching this pattern in depth-first order.
+     * Start node can be any node in the parse tree.
+     *
+     * @param parseTree Start node.
+     * @return List of matching nodes.
+     */
+    public List<ParseTree> findAll(ParseTree parseTree) {
+        return new TreePatternMatcher(Collections.singletonList(this)).match(parseTree).get(0);
+    }
+
+    /**
+     * Returns the path expression.
+     *
+     * @return The path expression.
+     */
+    @Override
+    public String toString() {
+        return expression;
+    }
+
+    /**
+     * A compiled step of a path expression.
+     */
+    static class Step {
+        private final boolean descendant;
+        private final boolean wildcard;
+        private final int ruleIndex;
+        private final Class<?> labelType;
+        private final int tokenType;
+        private final List<Predicate> predicates = new ArrayList<>();
+
+        private Step(boolean descendant, boolean wildcard, int ruleIndex, Class<?> labelType, int tokenType) {
+            this.descendant = descendant;
+            this.wildcard = wildcard;
+            this.ruleIndex = ruleIndex;
+            this.labelType = labelType;
+            this.tokenType = tokenType;
+        }
+
+        /**
+         * Determines if this step can match nodes at any depth below the node matched by the previous step.
+         *
+         * @return Returns true for the descendant axis, false for the child axis.
+         */
+        boolean isDescendant() {
+            return descendant;
+        }
+
+        /**
+         * Determines if a node matches this step including its predicates.
+         *
+         * @param node The node to be checked.
+         * @return Returns true if the node matches.
+         */
+        boolean matches(ParseTree node) {
+            if (!matchesName(node)) {
+                return false;
+            }
+            for (Predicate predicate : predicates) {
+                if (!predicate.test(node)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean matchesName(ParseTree node) {
+            if (node instanceof ParserRuleContext) {
+                if (wildcard) {
+                    return true;
+                } else if (ruleIndex >= 0) {
+                    return ((ParserRuleContext) node).getRuleIndex() == ruleIndex;
+                } else {
+                    return labelType == node.getClass();
+                }
+            } else if (node instanceof TerminalNode) {
+                return tokenType != Token.INVALID_TYPE && ((TerminalNode) node).getSymbol().getType() == tokenType;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * A compiled predicate of a step.
+     */
+    private static class Predicate {
+        private static final Map<Class<?>, Map<String, Field>> FIELDS = new ConcurrentHashMap<>();
+        private final List<Step> path;
+        private final String name;
+        private final int childRuleIndex;
+        private final String value;
+
+        private Predicate(List<Step> path, String name, String value) {
+            this.path = path;
+            this.name = name;
+            this.childRuleIndex = name != null ? RULE_NAMES.indexOf(name) : -1;
+            this.value = value;
+        }
+
+        private boolean test(ParseTree node) {
+            if (path != null) {
+                return TreePatternMatcher.exists(node, path);
+            } else if (name.equals(".")) {
+                return value.equalsIgnoreCase(node.getText());
+            } else {
+                Field field = getField(node.getClass(), name);
+                if (field != null) {
+                    return valueEquals(getFieldValue(field, node));
+                }
+                for (int i = 0; i < node.getChildCount(); i++) {
+                    ParseTree child = node.getChild(i);
+                    if (child instanceof ParserRuleContext && ((ParserRuleContext) child).getRuleIndex() == childRuleIndex
+                            && value.equalsIgnoreCase(child.getText())) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+        }
+
+        private boolean valueEquals(Object fieldValue) {
+            if (fieldValue instanceof ParseTree) {
+                return value.equalsIgnoreCase(((ParseTree) fieldValue).getText());
+            } else if (fieldValue instanceof Token) {
+                return value.equalsIgnoreCase(((Token) fieldValue).getText());
+            } else if (fieldValue instanceof List) {
+                for (Object element : (List<?>) fieldValue) {
+                    if (valueEquals(element)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        private static Field getField(Class<?> type, String name) {
+            return FIELDS.computeIfAbsent(type, k -> new ConcurrentHashMap<>())
+                    .computeIfAbsent(name, k -> {
+                        try {
+                            Field field = type.getField(name);
+                            return ParserRuleContext.class.isAssignableFrom(field.getDeclaringClass())
+                                    && field.getDeclaringClass() != ParserRuleContext.class ? field : null;
+                        } catch (NoSuchFieldException e) {
+                            return null;
+                        }
+                    });
+        }
+
+        private static Object getFieldValue(Field field, ParseTree node) {
+            try {
+                return field.get(node);
+            } catch (IllegalAccessException e) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+
+    /**
+     * Holder of the names of the labeled elements of all parser rule contexts, initialized on first use.
+     */
+    private static class FieldNames {
+        static final Set<String> NAMES = new HashSet<>();
+
+        static {
+            for (Class<?> type : IslandSqlParser.class.getClasses()) {
+                if (ParserRuleContext.class.isAssignableFrom(type)) {
+                    for (Field field : type.getFields()) {
+                        if (field.getDeclaringClass() != ParserRuleContext.class
+                                && ParserRuleContext.class.isAssignableFrom(field.getDeclaringClass())) {
+                            NAMES.add(field.getName());
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Recursive descent parser for path expressions.
+     */
+    private static class PatternParser {
+        private final String expression;
+        private int pos = 0;
+
+        private PatternParser(String expression) {
+            if (expression == null || expression.trim().isEmpty()) {
+                throw new IllegalArgumentException("Empty path expression.");
+            }
+            this.expression = expression;
+        }
+
+        private List<Step> parsePath(boolean topLevel) {
+            List<Step> result = new ArrayList<>();
+            skipWhitespace();
+            // top-level paths without a leading separator match anywhere, relative paths match children
+            boolean descendant = topLevel;
+            if (lookingAt("//")) {
+                pos += 2;
+                descendant = true;
+            } else if (lookingAt("/")) {
+                pos++;
+                descendant = false;
+            }
+            while (true) {
+                result.add(parseStep(descendant));
+                skipWhitespace();
+                if (lookingAt("//")) {
+                    pos += 2;
+                    descendant = true;
+                } else if (lookingAt("/")) {
+                    pos++;
+                    descendant = false;
+                } else {
+                    return result;
+                }
+            }
+        }
+
+        private Step parseStep(boolean descendant) {
+            skipWhitespace();
+            Step step;
+            if (lookingAt("*")) {
+                pos++;
+                step = new Step(descendant, true, -1, null, Token.INVALID_TYPE);
+            } else {
+                String name = parseName();
+                int ruleIndex = RULE_NAMES.indexOf(name);
+                if (ruleIndex >= 0) {
+                    step = new Step(descendant, false, ruleIndex, null, Token.INVALID_TYPE);
+                } else {
+                    Class<?> labelType = getLabelType(name);
+                    if (labelType != null) {
+                        step = new Step(descendant, false, -1, labelType, Token.INVALID_TYPE);
+                    } else {
+                        int tokenType = getTokenType(name);
+                        if (tokenType == Token.INVALID_TYPE) {
+                            throw error("Unknown rule, label or token name '" + name + "'");
+                        }
+                        step = new Step(descendant, false, -1, null, tokenType);
+                    }
+                }
+            }
+            skipWhitespace();
+            while (lookingAt("[")) {
+                pos++;
+                step.predicates.add(parsePredicate());
+                skipWhitespace();
+            }
+            return step;
+        }
+
+        private Predicate parsePredicate() {
+            skipWhitespace();
+            Predicate result;
+            int start = pos;
+            if (lookingAt(".") || Character.isJavaIdentifierStart(peek())) {
+                String name = lookingAt(".") ? String.valueOf(expression.charAt(pos++)) : parseName();
+                skipWhitespace();
+                if (lookingAt("=")) {
+                    if (!name.equals(".") && !RULE_NAMES.contains(name) && !FieldNames.NAMES.contains(name)) {
+                        throw error("Unknown rule, label or token name '" + name + "'");
+                    }
+                    pos++;
+                    skipWhitespace();
+                    result = new Predicate(null, name, parseLiteral());
+                } else {
+                    pos = start;
+                    result = new Predicate(parsePath(false), null, null);
+                }
+            } else {
+                result = new Predicate(parsePath(false), null, null);
+            }
+            skipWhitespace();
+            if (!lookingAt("]")) {
+                throw error("Expected ']'");
+            }
+            pos++;
+            return result;
+        }
+
+        private String parseName() {
+            int start = pos;
+            if (!Character.isJavaIdentifierStart(peek())) {
+                throw error("Expected name");
+            }
+            while (pos < expression.length() && Character.isJavaIdentifierPart(expression.charAt(pos))) {
+                pos++;
+            }
+            return expression.substring(start, pos);
+        }
+
+        private String parseLiteral() {
+            if (!lookingAt("'")) {
+                throw error("Expected string literal");
+            }
+            pos++;
+            StringBuilder sb = new StringBuilder();
+            while (pos < expression.length()) {
+                char c = expression.charAt(pos++);
+                if (c == '\'') {
+                    if (lookingAt("'")) {
+                        // escaped single quote
+                        sb.append(c);
+                        pos++;
+                    } else {
+                        return sb.toString();
+                    }
+                } else {
+                    sb.append(c);
+                }
+            }
+            throw error("Unterminated string literal");
+        }
+
+        private void expectEnd() {
+            skipWhitespace();
+            if (pos < expression.length()) {
+                throw error("Unexpected character '" + expression.charAt(pos) + "'");
+            }
+        }
+
+        private boolean lookingAt(String s) {
+            return expression.startsWith(s, pos);
+        }
+
+        private char peek() {
+            return pos < expression.length() ? expression.charAt(pos) : 0;
+        }
+
+        private void skipWhitespace() {
+            while (pos < expression.length() && Character.isWhitespace(expression.charAt(pos))) {
+                pos++;
+            }
+        }
+
+        private IllegalArgumentException error(String message) {
+            return new IllegalArgumentException(message + " at position " + pos + " in path expression: " + expression);
+        }
+
+        private static Class<?> getLabelType(String name) {
+            if (name.isEmpty() || !Character.isLowerCase(name.charAt(0))) {
+                return null;
+            }
+            try {
+                Class<?> type = Class.forName(IslandSqlParser.class.getName() + "$"
+                        + Character.toUpperCase(name.charAt(0)) + name.substring(1) + "Context");
+                return ParserRuleContext.class.isAssignableFrom(type) ? type : null;
+            } catch (ClassNotFoundException e) {
+                return null;
+            }
+        }
+
+        private static int getTokenType(String name) {
+            for (int i = 0; i <= IslandSqlParser.VOCABULARY.getMaxTokenType(); i++) {
+                if (name.equals(IslandSqlParser.VOCABULARY.getSymbolicName(i))) {
+                    return i;
+                }
+            }
+            return Token.INVALID_TYPE;
+        }
+    }
+}
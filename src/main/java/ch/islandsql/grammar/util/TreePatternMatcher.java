@@ -0,0 +1,183 @@
+/*
+ * Copyright 2026 Philipp Salvisberg <philipp.salvisberg@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.islandsql.grammar.util;
+
+import org.antlr.v4.runtime.tree.ParseTree;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Evaluates a list of {@link TreePattern} instances in a single traversal of a parse tree.
+ * <p>
+ * The steps of all patterns are combined into one automaton. Every node is visited
+ * at most once and carries the set of steps that can be matched at its position.
+ * Subtrees without active steps are skipped. Predicates are evaluated for candidate
+ * nodes only.
+ * </p>
+ */
+public class TreePatternMatcher {
+    private final List<TreePattern> patterns;
+    private final TreePattern.Step[] steps;
+    private final int[] patternIndexes;
+    private final boolean[] lastSteps;
+    private final BitSet initialStates = new BitSet();
+
+    /**
+     * Constructor.
+     *
+     * @param patterns The compiled patterns to be evaluated together.
+     */
+    public TreePatternMatcher(List<TreePattern> patterns) {
+        this.patterns = Collections.unmodifiableList(new ArrayList<>(patterns));
+        List<TreePattern.Step> allSteps = new ArrayList<>();
+        List<Integer> allPatternIndexes = new ArrayList<>();
+        for (int i = 0; i < patterns.size(); i++) {
+            initialStates.set(allSteps.size());
+            for (TreePattern.Step step : patterns.get(i).getSteps()) {
+                allSteps.add(step);
+                allPatternIndexes.add(i);
+            }
+        }
+        this.steps = allSteps.toArray(new TreePattern.Step[0]);
+        this.patternIndexes = allPatternIndexes.stream().mapToInt(Integer::intValue).toArray();
+        this.lastSteps = new boolean[steps.length];
+        for (int i = 0; i < steps.length; i++) {
+            lastSteps[i] = i == steps.length - 1 || patternIndexes[i + 1] != patternIndexes[i];
+        }
+    }
+
+    /**
+     * Gets the patterns evaluated by this matcher.
+     *
+     * @return The patterns in the order passed to the constructor.
+     */
+    public List<TreePattern> getPatterns() {
+        return patterns;
+    }
+
+    /**
+     * Evaluates all patterns in a single traversal.
+     * Start node can be any node in the parse tree. The start node is a candidate for
+     * the first step of every pattern.
+     *
+     * @param parseTree Start node.
+     * @return A list of matching nodes in depth-first order per pattern, in the order of {@link #getPatterns()}.
+     */
+    public List<List<ParseTree>> match(ParseTree parseTree) {
+        List<List<ParseTree>> result = new ArrayList<>();
+        for (int i = 0; i < patterns.size(); i++) {
+            result.add(new ArrayList<>());
+        }
+        boolean[] matched = new boolean[patterns.size()];
+        List<ParseTree> nodeStack = new ArrayList<>();
+        List<BitSet> stateStack = new ArrayList<>();
+        nodeStack.add(parseTree);
+        stateStack.add(initialStates);
+        while (!nodeStack.isEmpty()) {
+            ParseTree node = nodeStack.remove(nodeStack.size() - 1);
+            BitSet parentStates = stateStack.remove(stateStack.size() - 1);
+            BitSet states = nextStates(steps, lastSteps, patternIndexes, parentStates, node, matched);
+            for (int i = 0; i < matched.length; i++) {
+                if (matched[i]) {
+                    result.get(i).add(node);
+                    matched[i] = false;
+                }
+            }
+            if (!states.isEmpty()) {
+                for (int i = node.getChildCount() - 1; i >= 0; i--) {
+                    nodeStack.add(node.getChild(i));
+                    stateStack.add(states);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Determines if a relative path matches at least one node below the start node.
+     * Stops the traversal on the first match.
+     *
+     * @param parseTree Start node, not a candidate for the first step.
+     * @param path      The compiled steps of the relative path.
+     * @return Returns true if the path matches.
+     */
+    static boolean exists(ParseTree parseTree, List<TreePattern.Step> path) {
+        TreePattern.Step[] pathSteps = path.toArray(new TreePattern.Step[0]);
+        boolean[] pathLastSteps = new boolean[pathSteps.length];
+        pathLastSteps[pathSteps.length - 1] = true;
+        int[] pathPatternIndexes = new int[pathSteps.length];
+        BitSet initial = new BitSet();
+        initial.set(0);
+        boolean[] matched = new boolean[1];
+        List<ParseTree> nodeStack = new ArrayList<>();
+        List<BitSet> stateStack = new ArrayList<>();
+        for (int i = parseTree.getChildCount() - 1; i >= 0; i--) {
+            nodeStack.add(parseTree.getChild(i));
+            stateStack.add(initial);
+        }
+        while (!nodeStack.isEmpty()) {
+            ParseTree node = nodeStack.remove(nodeStack.size() - 1);
+            BitSet parentStates = stateStack.remove(stateStack.size() - 1);
+            BitSet states = nextStates(pathSteps, pathLastSteps, pathPatternIndexes, parentStates, node, matched);
+            if (matched[0]) {
+                return true;
+            }
+            if (!states.isEmpty()) {
+                for (int i = node.getChildCount() - 1; i >= 0; i--) {
+                    nodeStack.add(node.getChild(i));
+                    stateStack.add(states);
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Computes the active steps of a node based on the active steps of its parent.
+     * A step on the descendant axis stays active. A step matching the node activates
+     * the next step or marks the pattern as matched, if it is the last step.
+     *
+     * @param steps          All steps.
+     * @param lastSteps      Flags for last steps of a pattern.
+     * @param patternIndexes Pattern index per step.
+     * @param parentStates   Active steps of the parent node.
+     * @param node           The node to be processed.
+     * @param matched        Flags per pattern, set to true for patterns matching the node.
+     * @return Active steps for the children of the node.
+     */
+    private static BitSet nextStates(TreePattern.Step[] steps, boolean[] lastSteps, int[] patternIndexes,
+                                     BitSet parentStates, ParseTree node, boolean[] matched) {
+        BitSet states = new BitSet(steps.length);
+        for (int i = parentStates.nextSetBit(0); i >= 0; i = parentStates.nextSetBit(i + 1)) {
+            TreePattern.Step step = steps[i];
+            if (step.isDescendant()) {
+                states.set(i);
+            }
+            if (step.matches(node)) {
+                if (lastSteps[i]) {
+                    matched[patternIndexes[i]] = true;
+                } else {
+                    states.set(i + 1);
+                }
+            }
+        }
+        return states;
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2026 Philipp Salvisberg <philipp.salvisberg@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.islandsql.grammar.util;
+
+/**
+ * Representation of the result of a syntax validation.
+ */
+@SuppressWarnings("ClassCanBeRecord")
+public class ValidationResult {
+    private final SyntaxErrorEntry firstError;
+
+    /**
+     * Constructor.
+     *
+     * @param firstError The first syntax error, null if the script is valid.
+     */
+    public ValidationResult(SyntaxErrorEntry firstError) {
+        this.firstError = firstError;
+    }
+
+    /**
+     * Determines if the script is syntactically valid.
+     *
+     * @return Returns true if no syntax error has been found.
+     */
+    public boolean isValid() {
+        return firstError == null;
+    }
+
+    /**
+     * Get the first syntax error. This is a lightweight entry without offending token and exception.
+     *
+     * @return Returns the first syntax error, null if the script is valid.
+     */
+    public SyntaxErrorEntry getFirstError() {
+        return firstError;
+    }
+}